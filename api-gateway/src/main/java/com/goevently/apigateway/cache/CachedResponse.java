@@ -0,0 +1,18 @@
+package com.goevently.apigateway.cache;
+
+/**
+ * A stored 200 response for a public GET, with a gzip copy of the body when it is large enough
+ */
+public record CachedResponse(String contentType, byte[] body, byte[] gzipBody, String etag, long storedAt, long expiresAt) {
+
+    public boolean isFresh(long now) {
+        return now < expiresAt;
+    }
+
+    /**
+     * ETag of the gzip representation; it must differ from the identity body's tag
+     */
+    public String gzipEtag() {
+        return etag.endsWith("\"") ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag + "-gzip";
+    }
+}
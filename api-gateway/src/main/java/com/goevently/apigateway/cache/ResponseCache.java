@@ -0,0 +1,137 @@
+package com.goevently.apigateway.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded LRU store of public GET responses with a TTL.
+ *
+ * Every invalidation bumps a generation counter; a response fetched under an older generation
+ * is not stored, so a request that raced with an update cannot put stale data back.
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private final Map<String, CachedResponse> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.response-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${app.response-cache.precompress-min-bytes:2048}")
+    private int precompressMinBytes;
+
+    public ResponseCache(@Value("${app.response-cache.max-entries:1000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return a fresh entry, or null
+     */
+    public CachedResponse get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedResponse entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.isFresh(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Store a response fetched under the given generation
+     *
+     * @return the stored entry (also returned when it was too late to store, so waiters can use it)
+     */
+    public CachedResponse put(String key, String contentType, byte[] body, String upstreamEtag, long fetchedUnderGeneration) {
+        long now = System.currentTimeMillis();
+        CachedResponse entry = new CachedResponse(contentType, body,
+                body.length >= precompressMinBytes ? gzip(body) : null,
+                upstreamEtag != null ? upstreamEtag : etagFor(body), now, now + ttlMs);
+        synchronized (entries) {
+            if (generation.get() == fetchedUnderGeneration) {
+                entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Drop every entry whose key starts with one of the prefixes
+     */
+    public void invalidate(String... pathPrefixes) {
+        int removed;
+        synchronized (entries) {
+            generation.incrementAndGet();
+            int before = entries.size();
+            entries.keySet().removeIf(key -> Arrays.stream(pathPrefixes).anyMatch(key::startsWith));
+            removed = before - entries.size();
+        }
+        log.debug("Invalidated {} cached responses under {}", removed, Arrays.toString(pathPrefixes));
+    }
+
+    // Compressed once per store instead of by the server compressor on every hit
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            log.warn("Failed to pre-compress cached response: {}", e.getMessage());
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    static String etagFor(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cache key: path plus query parameters sorted by name, so ?b=1&a=2 and ?a=2&b=1 share an entry
+     */
+    public static String keyFor(String path, Map<String, List<String>> queryParams) {
+        if (queryParams.isEmpty()) {
+            return path;
+        }
+        StringBuilder key = new StringBuilder(path).append('?');
+        queryParams.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(param -> param.getValue().stream().sorted().forEach(value ->
+                        key.append(param.getKey()).append('=').append(value).append('&')));
+        key.setLength(key.length() - 1);
+        return key.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.goevently.apigateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit for one downstream route, driven by latency.
+ *
+ * A slow-moving baseline tracks the route's normal latency. A response well above it
+ * (latency-tolerance x baseline), a 5xx or a transport error cuts the limit by backoff-ratio;
+ * otherwise the limit grows by about one per limit's worth of successes while it is actually
+ * being used. Requests over their priority's share of the limit are rejected immediately
+ * instead of queueing behind a struggling service.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_ALPHA = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final double lowShare;
+    private final double normalShare;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double baselineNanos = -1;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      double latencyTolerance, double lowShare, double normalShare) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.lowShare = lowShare;
+        this.normalShare = normalShare;
+    }
+
+    /**
+     * @return true if the request may proceed; the caller must then call {@link #onComplete}
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * share(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release the slot and feed the outcome into the limit
+     *
+     * @param latencyNanos time until the downstream response (or failure)
+     * @param failed 5xx, timeout or connection error
+     */
+    public void onComplete(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (baselineNanos < 0) {
+                baselineNanos = latencyNanos;
+            }
+            boolean slow = latencyNanos > baselineNanos * latencyTolerance;
+            if (failed || slow) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            if (!failed) {
+                // Slow drift, so a lasting latency shift becomes the new normal instead of pinning the limit low
+                baselineNanos += BASELINE_ALPHA * (latencyNanos - baselineNanos);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private double share(RequestPriority priority) {
+        return switch (priority) {
+            case LOW -> lowShare;
+            case NORMAL -> normalShare;
+            case HIGH -> 1.0;
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.goevently.apigateway.concurrency;
+
+/**
+ * Share of a route's concurrency limit a request may use; lower priorities are shed first
+ */
+public enum RequestPriority {
+    LOW,
+    NORMAL,
+    HIGH
+}
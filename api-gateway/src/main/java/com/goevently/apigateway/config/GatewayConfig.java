@@ -1,10 +1,23 @@
 package com.goevently.apigateway.config;
 
+import com.goevently.apigateway.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.route.RouteLocator;
 //import org.springframework.cloud.gateway.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.route.builder.UriSpec;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Gateway routing configuration.
@@ -13,38 +26,53 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class GatewayConfig {
 
+    @Value("${app.routes.payment-response-timeout-ms:15000}")
+    private long paymentResponseTimeoutMs;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+        GatewayFilter jwtAuthentication = jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config());
+
         return builder.routes()
 
                 // Auth Service Routes
                 .route("auth-service", r -> r
                         .path("/api/auth/**")
+                        .filters(this::resilience)
                         .uri("lb://auth-service"))
 
                 // Event Service Routes
                 .route("event-service", r -> r
                         .path("/api/events/**")
+                        .filters(f -> resilience(f.filter(jwtAuthentication)))
                         .uri("lb://event-service"))
 
                 // Future Booking Service Routes
                 .route("booking-service", r -> r
-                        .path("/api/bookings/**")
+                        .path("/api/bookings/**", "/api/waiting-room/**")
+                        .filters(f -> resilience(f.filter(jwtAuthentication)))
                         .uri("lb://booking-service"))
 
-                // Future Payment Service Routes
+                // Future Payment Service Routes (calls out to the payment provider, so a longer timeout)
                 .route("payment-service", r -> r
                         .path("/api/payments/**")
+                        .filters(f -> resilience(f.filter(jwtAuthentication)))
+                        .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, paymentResponseTimeoutMs)
                         .uri("lb://payment-service"))
 
                 // Future Notification Service Routes
                 .route("notification-service", r -> r
                         .path("/api/notifications/**")
+                        .filters(f -> resilience(f.filter(jwtAuthentication)))
                         .uri("lb://notification-service"))
 
                 // Future Admin Service Routes
                 .route("admin-service", r -> r
                         .path("/api/admin/**")
+                        .filters(f -> resilience(f.filter(jwtAuthentication)))
                         .uri("lb://admin-service"))
 
                 // Health Check Routes (for all services)
@@ -54,4 +82,26 @@ public class GatewayConfig {
 
                 .build();
     }
+
+    /**
+     * Authenticated routes verify the bearer token first (and forward the signed identity header);
+     * auth-service and the health check stay public.
+     *
+     * Same protection as the default-filters on the YAML routes: a circuit breaker and bulkhead
+     * named after the route (see resilience4j.* in application.yml) with a fast fallback, and one
+     * retry for GETs inside it, so retries count against the breaker and its time limit.
+     */
+    private UriSpec resilience(GatewayFilterSpec filters) {
+        return filters
+                .circuitBreaker(config -> config
+                        .setFallbackUri("forward:/fallback")
+                        .addStatusCode(HttpStatus.BAD_GATEWAY.name())
+                        .addStatusCode(HttpStatus.SERVICE_UNAVAILABLE.name())
+                        .addStatusCode(HttpStatus.GATEWAY_TIMEOUT.name()))
+                .retry(config -> config
+                        .setRetries(1)
+                        .setMethods(HttpMethod.GET)
+                        .setExceptions(IOException.class, TimeoutException.class)
+                        .setBackoff(Duration.ofMillis(50), Duration.ofMillis(200), 2, true));
+    }
 }
@@ -0,0 +1,13 @@
+package com.goevently.apigateway.config;
+
+import com.goevently.apigateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Use latency-aware power-of-two-choices instead of round robin for every lb:// route.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,41 @@
+package com.goevently.apigateway.controller;
+
+import com.goevently.apigateway.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fallback for routes whose circuit breaker is open, whose bulkhead is full or whose call
+ * timed out (CircuitBreaker filter with fallbackUri forward:/fallback).
+ * Answers at once instead of holding the client connection on a failing service.
+ */
+@RestController
+@Slf4j
+public class FallbackController {
+
+    @RequestMapping("/fallback")
+    public ResponseEntity<ErrorResponse> fallback(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        String service = route != null ? route.getId() : "service";
+
+        HttpStatus status = cause instanceof TimeoutException ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+        log.warn("Fallback for {} {}: {}", service, status.value(), cause != null ? cause.toString() : "circuit open");
+
+        ErrorResponse body = new ErrorResponse(status.value(),
+                service + " is temporarily unavailable, please retry shortly",
+                exchange.getRequest().getPath().value());
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(body);
+    }
+}
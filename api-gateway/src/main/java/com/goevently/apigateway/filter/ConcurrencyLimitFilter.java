@@ -0,0 +1,152 @@
+package com.goevently.apigateway.filter;
+
+import com.goevently.apigateway.concurrency.AdaptiveConcurrencyLimiter;
+import com.goevently.apigateway.concurrency.RequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route adaptive concurrency limit with priority-aware load shedding.
+ *
+ * Each route gets its own {@link AdaptiveConcurrencyLimiter}. Requests over the limit get an
+ * immediate 503 with Retry-After rather than waiting on a saturated service. Payment calls
+ * may use the whole limit, catalogue browsing only low-priority-share of it, so browsing is
+ * shed first. Exposed as gateway.concurrency.limit / .in-flight gauges and a
+ * gateway.concurrency.rejected counter, tagged by route.
+ */
+@Component
+@Slf4j
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.concurrency-limit.initial-limit:50}")
+    private int initialLimit;
+
+    @Value("${app.concurrency-limit.min-limit:5}")
+    private int minLimit;
+
+    @Value("${app.concurrency-limit.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${app.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${app.concurrency-limit.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${app.concurrency-limit.low-priority-share:0.5}")
+    private double lowPriorityShare;
+
+    @Value("${app.concurrency-limit.normal-priority-share:0.8}")
+    private double normalPriorityShare;
+
+    @Value("${app.concurrency-limit.high-priority-paths:/api/payments}")
+    private String highPriorityPaths;
+
+    @Value("${app.concurrency-limit.low-priority-paths:/api/events,/api/venues,/api/categories,/api/ticket-tiers}")
+    private String lowPriorityPaths;
+
+    private List<String> highPrefixes;
+    private List<String> lowPrefixes;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        highPrefixes = Arrays.stream(highPriorityPaths.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+        lowPrefixes = Arrays.stream(lowPriorityPaths.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(routeId, this::newLimiter);
+        RequestPriority priority = priorityOf(exchange.getRequest());
+        if (!limiter.tryAcquire(priority)) {
+            meterRegistry.counter("gateway.concurrency.rejected", "route", routeId, "priority", priority.name()).increment();
+            log.debug("Shedding {} request to {}: {} in flight, limit {}", priority, routeId, limiter.getInFlight(), limiter.getLimit());
+            return serviceUnavailable(exchange);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    limiter.onComplete(System.nanoTime() - start, status != null && status.is5xxServerError());
+                })
+                .doOnError(e -> limiter.onComplete(System.nanoTime() - start, true))
+                .doOnCancel(() -> limiter.onComplete(System.nanoTime() - start, false));
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(String routeId) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyTolerance, lowPriorityShare, normalPriorityShare);
+        Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("route", routeId).register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("route", routeId).register(meterRegistry);
+        return limiter;
+    }
+
+    private RequestPriority priorityOf(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        if (highPrefixes.stream().anyMatch(path::startsWith)) {
+            return RequestPriority.HIGH;
+        }
+        if (request.getMethod() == HttpMethod.GET && lowPrefixes.stream().anyMatch(path::startsWith)) {
+            return RequestPriority.LOW;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().add("Content-Type", "application/json");
+        response.getHeaders().add(HttpHeaders.RETRY_AFTER, "1");
+
+        String body = "{\"success\":false,\"message\":\"Service is busy, please retry shortly\"}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        // After the response cache, so cache hits never take a downstream slot
+        return 0;
+    }
+}
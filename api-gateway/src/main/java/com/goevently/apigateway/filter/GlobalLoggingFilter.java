@@ -1,46 +1,100 @@
 package com.goevently.apigateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Global logging filter for all incoming requests.
+ * Global access log and per-route latency histograms.
+ *
+ * One key=value line per request on the ACCESS_LOG logger, which logback-spring.xml routes
+ * through a non-blocking async appender. Successful (2xx/3xx) requests are sampled at
+ * app.access-log.success-sample-rate; errors are always logged. Every request is recorded in
+ * a gateway.route.latency timer (percentile histogram, tagged by route and status class),
+ * available under /actuator/metrics.
  */
 @Component
-@Slf4j
 public class GlobalLoggingFilter implements GlobalFilter, Ordered {
 
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final String[] STATUS_CLASSES = {"none", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.access-log.success-sample-rate:0.1}")
+    private double successSampleRate;
+
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-
-        long startTime = System.currentTimeMillis();
-
-        log.info("Incoming request: {} {} from {}",
-                request.getMethod(),
-                request.getPath(),
-                request.getRemoteAddress());
-
-        return chain.filter(exchange).then(
-                Mono.fromRunnable(() -> {
-                    long endTime = System.currentTimeMillis();
-                    log.info("Request completed: {} {} - Status: {} - Duration: {}ms",
-                            request.getMethod(),
-                            request.getPath(),
-                            exchange.getResponse().getStatusCode(),
-                            (endTime - startTime));
-                })
-        );
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> record(exchange, start, signal));
+    }
+
+    private void record(ServerWebExchange exchange, long start, SignalType signal) {
+        long elapsedNanos = System.nanoTime() - start;
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        // 499: client went away before a response (nginx convention)
+        int code = status != null ? status.value() : signal == SignalType.CANCEL ? 499 : 0;
+
+        int statusClass = code >= 100 && code < 600 ? code / 100 : 0;
+        timerFor(routeId, statusClass).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (code > 0 && code < 400 && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+            return;
+        }
+        if (ACCESS_LOG.isInfoEnabled()) {
+            ServerHttpRequest request = exchange.getRequest();
+            InetSocketAddress remoteAddress = request.getRemoteAddress();
+            ACCESS_LOG.info("method={} path={} status={} route={} durationUs={} client={}",
+                    request.getMethod(), request.getPath().value(), code, routeId, elapsedNanos / 1000,
+                    remoteAddress != null && remoteAddress.getAddress() != null
+                            ? remoteAddress.getAddress().getHostAddress() : "-");
+        }
+    }
+
+    private Timer timerFor(String routeId, int statusClass) {
+        Timer[] byStatus = timers.computeIfAbsent(routeId, id -> new Timer[STATUS_CLASSES.length]);
+        Timer timer = byStatus[statusClass];
+        if (timer == null) {
+            // Meter registration is idempotent, so a racing duplicate resolves to the same timer
+            timer = Timer.builder("gateway.route.latency")
+                    .tag("route", routeId)
+                    .tag("status", STATUS_CLASSES[statusClass])
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            byStatus[statusClass] = timer;
+        }
+        return timer;
     }
 
     @Override
     public int getOrder() {
-        return -1; // Execute before other filters
+        return Ordered.HIGHEST_PRECEDENCE; // Execute before other filters
     }
 }
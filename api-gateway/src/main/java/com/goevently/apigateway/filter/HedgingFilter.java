@@ -0,0 +1,294 @@
+package com.goevently.apigateway.filter;
+
+import com.goevently.apigateway.loadbalancer.InstanceLoadStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Hedged GETs for idempotent catalogue routes (app.hedging.routes).
+ *
+ * The request goes to one instance; if it has not answered within the route's current upstream
+ * p95 (gateway.hedge.upstream.latency, floored at min-delay-ms), a second attempt goes to a
+ * different instance. Whichever responds first is returned and the other is cancelled. Hedges are paid
+ * from a budget that earns budget-percent of a hedge per eligible request, so extra load stays
+ * under that share even when a whole service is slow.
+ *
+ * Runs just before the load-balancer filter and, for hedged requests, performs the proxy call
+ * itself and marks the exchange as routed. Other requests pass through untouched. The delay is
+ * taken from this filter's own timer rather than gateway.route.latency, which also counts
+ * response-cache hits, coalesced waiters and 304s that never reach an instance. Calls go through
+ * the gateway's HttpClient, so the spring.cloud.gateway.httpclient pool, connect timeout and
+ * response timeout (or the route's response-timeout metadata) apply as they do for NettyRoutingFilter.
+ */
+@Component
+@Slf4j
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    private static final long BUDGET_UNIT = 1000;
+    private static final long MAX_BUDGET_UNITS = 20 * BUDGET_UNIT;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.CONNECTION.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase(), "keep-alive");
+
+    @Autowired
+    private ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancerFactory;
+
+    @Autowired
+    private ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private InstanceLoadStats loadStats;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private HttpClientProperties httpClientProperties;
+
+    @Value("${app.hedging.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.hedging.routes:event-service}")
+    private String routes;
+
+    @Value("${app.hedging.budget-percent:5}")
+    private double budgetPercent;
+
+    @Value("${app.hedging.min-delay-ms:20}")
+    private long minDelayMs;
+
+    @Value("${app.hedging.default-delay-ms:100}")
+    private long defaultDelayMs;
+
+    @Value("${app.hedging.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${app.hedging.max-body-bytes:2097152}")
+    private int maxBodyBytes;
+
+    private Set<String> hedgedRoutes;
+    private WebClient webClient;
+    private final AtomicLong budgetUnits = new AtomicLong(BUDGET_UNIT);
+    private final Map<String, CachedDelay> delays = new ConcurrentHashMap<>();
+    private final Map<String, Timer> upstreamTimers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        hedgedRoutes = Arrays.stream(routes.split(",")).map(String::trim).filter(r -> !r.isEmpty()).collect(Collectors.toSet());
+        webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxBodyBytes))
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (!enabled || route == null || url == null || !"lb".equals(url.getScheme())
+                || exchange.getRequest().getMethod() != HttpMethod.GET || !hedgedRoutes.contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        budgetUnits.getAndUpdate(units -> Math.min(MAX_BUDGET_UNITS, units + (long) (budgetPercent * BUDGET_UNIT / 100)));
+
+        String serviceId = url.getHost();
+        ReactiveLoadBalancer<ServiceInstance> loadBalancer = loadBalancerFactory.getInstance(serviceId);
+        if (loadBalancer == null) {
+            return chain.filter(exchange);
+        }
+
+        HttpHeaders requestHeaders = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange);
+        Duration hedgeDelay = hedgeDelay(route.getId());
+        Duration responseTimeout = responseTimeout(route);
+
+        return Mono.from(loadBalancer.choose(new DefaultRequest<>()))
+                .flatMap(primary -> {
+                    if (!primary.hasServer()) {
+                        return chain.filter(exchange);
+                    }
+                    ServiceInstance first = primary.getServer();
+                    long start = System.nanoTime();
+                    Mono<ResponseEntity<byte[]>> firstAttempt = call(first, url, requestHeaders, responseTimeout);
+                    Mono<ResponseEntity<byte[]>> hedge = Mono.delay(hedgeDelay)
+                            .then(Mono.from(loadBalancer.choose(new DefaultRequest<>())))
+                            .filter(Response::hasServer)
+                            .map(Response::getServer)
+                            .filter(second -> !sameInstance(first, second) && takeBudget(route.getId()))
+                            .flatMap(second -> {
+                                meterRegistry.counter("gateway.hedge.sent", "route", route.getId()).increment();
+                                return call(second, url, requestHeaders, responseTimeout)
+                                        .doOnNext(won -> meterRegistry.counter("gateway.hedge.won", "route", route.getId()).increment());
+                            });
+
+                    ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                    return Mono.firstWithValue(firstAttempt, hedge)
+                            .timeout(Duration.ofMillis(timeoutMs))
+                            // Time to the first usable answer, hedge included, so cancelled losers don't drop out
+                            .doOnNext(response -> {
+                                if (response.getStatusCode().is2xxSuccessful()) {
+                                    upstreamTimer(route.getId()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                }
+                            })
+                            .flatMap(response -> write(exchange, response));
+                });
+    }
+
+    private Mono<ResponseEntity<byte[]>> call(ServiceInstance instance, URI url, HttpHeaders requestHeaders,
+                                              Duration responseTimeout) {
+        URI target = UriComponentsBuilder.fromUri(url)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+        return Mono.defer(() -> {
+            // Keep the load balancer's per-instance stats current for hedged routes too
+            long start = System.nanoTime();
+            loadStats.begin(instance);
+            return webClient.get()
+                    .uri(target)
+                    .headers(headers -> headers.addAll(requestHeaders))
+                    .httpRequest(request -> {
+                        if (responseTimeout != null) {
+                            request.<HttpClientRequest>getNativeRequest().responseTimeout(responseTimeout);
+                        }
+                    })
+                    .exchangeToMono(response -> response.toEntity(byte[].class))
+                    .doOnSuccess(response -> loadStats.end(instance, System.nanoTime() - start,
+                            response == null || response.getStatusCode().is5xxServerError()))
+                    .doOnError(e -> loadStats.end(instance, System.nanoTime() - start, true))
+                    .doOnCancel(() -> loadStats.end(instance, System.nanoTime() - start, false));
+        });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> upstream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.getStatusCode());
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(), upstream.getHeaders(),
+                exchange, HttpHeadersFilter.Type.RESPONSE);
+        filtered.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                response.getHeaders().put(name, values);
+            }
+        });
+
+        byte[] body = upstream.getBody();
+        if (body == null) {
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private boolean takeBudget(String routeId) {
+        long before = budgetUnits.getAndUpdate(units -> units >= BUDGET_UNIT ? units - BUDGET_UNIT : units);
+        if (before < BUDGET_UNIT) {
+            meterRegistry.counter("gateway.hedge.budget-exhausted", "route", routeId).increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Same precedence as NettyRoutingFilter: route metadata (ms, negative disables), then the global setting
+     */
+    private Duration responseTimeout(Route route) {
+        Object metadata = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (metadata != null) {
+            long millis = metadata instanceof Number number ? number.longValue() : Long.parseLong(metadata.toString());
+            return millis < 0 ? null : Duration.ofMillis(millis);
+        }
+        return httpClientProperties.getResponseTimeout();
+    }
+
+    private Timer upstreamTimer(String routeId) {
+        return upstreamTimers.computeIfAbsent(routeId, id -> Timer.builder("gateway.hedge.upstream.latency")
+                .tag("route", id)
+                .publishPercentiles(0.95)
+                .register(meterRegistry));
+    }
+
+    /**
+     * The route's recent upstream p95 of successful responses, re-read at most once a second
+     */
+    private Duration hedgeDelay(String routeId) {
+        long now = System.currentTimeMillis();
+        CachedDelay cached = delays.get(routeId);
+        if (cached != null && now < cached.readAt + 1000) {
+            return cached.delay;
+        }
+
+        long delayMs = defaultDelayMs;
+        Timer timer = upstreamTimers.get(routeId);
+        if (timer != null) {
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == 0.95 && percentile.value() > 0) {
+                    delayMs = (long) percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        Duration delay = Duration.ofMillis(Math.max(minDelayMs, delayMs));
+        delays.put(routeId, new CachedDelay(delay, now));
+        return delay;
+    }
+
+    private static boolean sameInstance(ServiceInstance a, ServiceInstance b) {
+        return a.getHost().equals(b.getHost()) && a.getPort() == b.getPort();
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+
+    private record CachedDelay(Duration delay, long readAt) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.goevently.apigateway.filter;
+
+import com.goevently.apigateway.util.InternalIdentity;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Removes identity headers a client sent itself, on every request and before any route filter.
+ * Only JwtAuthenticationFilter may set them, after verifying the bearer token.
+ */
+@Component
+public class InternalIdentityHeaderFilter implements GlobalFilter, Ordered {
+
+    static final List<String> TRUSTED_HEADERS = List.of(
+            InternalIdentity.HEADER, "X-User-Id", "X-User-Role", "X-User-Username");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        if (TRUSTED_HEADERS.stream().noneMatch(headers::containsKey)) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(mutable -> TRUSTED_HEADERS.forEach(mutable::remove))
+                .build();
+        return chain.filter(exchange.mutate().request(stripped).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Right after the access log, ahead of everything that could forward the request
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -1,8 +1,12 @@
 package com.goevently.apigateway.filter;
 
+import com.goevently.apigateway.util.InternalIdentity;
 import com.goevently.apigateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -15,19 +19,37 @@ import reactor.core.publisher.Mono;
 
 /**
  * JWT Authentication Filter for API Gateway.
- * Validates JWT tokens and adds user information to headers.
+ * Validates JWT tokens and adds user information to headers, including the signed
+ * X-Internal-Identity that lets downstream services skip re-verifying the JWT.
+ * Attached to every authenticated route (GatewayConfig and application.yml).
  */
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
+    // Claims already verified earlier in the same exchange (RateLimitFilter), reused instead of parsing again
+    public static final String CLAIMS_ATTR = JwtAuthenticationFilter.class.getName() + ".claims";
+
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Value("${app.internal-identity.secret}")
+    private String internalIdentitySecret;
+
+    @Value("${app.internal-identity.ttl-ms:5000}")
+    private long internalIdentityTtlMs;
+
+    private InternalIdentity internalIdentity;
+
     public JwtAuthenticationFilter() {
         super(Config.class);
     }
 
+    @PostConstruct
+    void init() {
+        internalIdentity = new InternalIdentity(internalIdentitySecret, internalIdentityTtlMs);
+    }
+
     @Override
     public GatewayFilter apply(Config config) {
         return (exchange, chain) -> {
@@ -47,20 +69,22 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             String token = authHeader.substring(7);
 
             try {
-                if (!jwtUtil.validateToken(token)) {
-                    return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+                // One verification per request (cached by token); claims are read from the result
+                Claims claims = exchange.getAttribute(CLAIMS_ATTR);
+                if (claims == null) {
+                    claims = jwtUtil.parseAndVerify(token);
                 }
-
-                // Extract user information from token
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
-                Long userId = jwtUtil.extractUserId(token);
+                String username = claims.getSubject();
+                String role = claims.get("role", String.class);
+                Long userId = claims.get("userId", Long.class);
 
                 // Add user information to headers for downstream services
                 ServerHttpRequest modifiedRequest = request.mutate()
                         .header("X-User-Username", username)
                         .header("X-User-Role", role != null ? role : "USER")
                         .header("X-User-Id", userId != null ? userId.toString() : "")
+                        // Signed copy of the identity so downstream services can skip re-verifying the JWT
+                        .headers(headers -> headers.set(InternalIdentity.HEADER, internalIdentity.sign(userId, username, role)))
                         .build();
 
                 log.debug("JWT validated for user: {}, role: {}", username, role);
@@ -69,7 +93,7 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
             } catch (Exception e) {
                 log.error("JWT validation error: {}", e.getMessage());
-                return onError(exchange, "Token validation failed", HttpStatus.UNAUTHORIZED);
+                return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
             }
         };
     }
@@ -77,6 +101,8 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
     private boolean isPublicEndpoint(String path) {
         return path.startsWith("/api/auth/") ||
                 path.startsWith("/actuator/") ||
+                path.startsWith("/api/payments/webhook/") || // Razorpay callbacks, no user token
+                path.equals("/api/notifications/health") ||
                 (path.startsWith("/api/events/") && path.contains("GET")); // Public event listings
     }
 
@@ -0,0 +1,150 @@
+package com.goevently.apigateway.filter;
+
+import com.goevently.apigateway.ratelimit.BucketLimit;
+import com.goevently.apigateway.ratelimit.RateLimiter;
+import com.goevently.apigateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-bucket rate limiting for every route.
+ *
+ * Each request is charged against a per-IP bucket and, when it carries a valid bearer token,
+ * a per-user bucket; both are scoped to the route so one noisy service cannot exhaust a
+ * client's allowance on the others. Limits default to app.rate-limit.capacity /
+ * refill-per-second and can be tightened per route id. The user comes from the verified JWT
+ * (cached by JwtUtil) rather than X-User-Id, which a client could set itself.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.capacity:100}")
+    private long defaultCapacity;
+
+    @Value("${app.rate-limit.refill-per-second:50}")
+    private double defaultRefillPerSecond;
+
+    @Value("${app.rate-limit.ip-multiplier:4}")
+    private int ipMultiplier;
+
+    // routeId=capacity/refillPerSecond, comma separated
+    @Value("${app.rate-limit.routes:}")
+    private String routeOverrides;
+
+    private final Map<String, double[]> routeLimits = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String entry : routeOverrides.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] routeAndLimit = entry.trim().split("=");
+            String[] limit = routeAndLimit[1].split("/");
+            routeLimits.put(routeAndLimit[0].trim(),
+                    new double[]{Double.parseDouble(limit[0].trim()), Double.parseDouble(limit[1].trim())});
+        }
+        log.info("Rate limiting {}: default {}/{}/s per user, route overrides {}",
+                enabled ? "enabled" : "disabled", defaultCapacity, defaultRefillPerSecond, routeLimits.keySet());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "default";
+        double[] limit = routeLimits.get(routeId);
+        long capacity = limit != null ? (long) limit[0] : defaultCapacity;
+        double refillPerSecond = limit != null ? limit[1] : defaultRefillPerSecond;
+
+        ServerHttpRequest request = exchange.getRequest();
+        String prefix = "rl:{" + routeId + "}:";
+        BucketLimit ipBucket = new BucketLimit(prefix + "ip:" + clientIp(request),
+                capacity * ipMultiplier, refillPerSecond * ipMultiplier);
+        Long userId = userId(exchange);
+        List<BucketLimit> buckets = userId == null ? List.of(ipBucket)
+                : List.of(new BucketLimit(prefix + "user:" + userId, capacity, refillPerSecond), ipBucket);
+
+        return rateLimiter.tryAcquire(buckets).flatMap(decision -> {
+            if (decision.allowed()) {
+                return chain.filter(exchange);
+            }
+            log.debug("Rate limited {} on route {} (user {})", clientIp(request), routeId, userId);
+            return tooManyRequests(exchange, decision.retryAfterMs());
+        });
+    }
+
+    private Long userId(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            Claims claims = jwtUtil.parseAndVerify(authHeader.substring(7));
+            // JwtAuthenticationFilter runs later on the route and reuses these claims
+            exchange.getAttributes().put(JwtAuthenticationFilter.CLAIMS_ATTR, claims);
+            return claims.get("userId", Long.class);
+        } catch (Exception e) {
+            // Invalid token: limited by IP only, the auth filter or service rejects it
+            return null;
+        }
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress() : "unknown";
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterMs) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().add("Content-Type", "application/json");
+        response.getHeaders().add(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfterMs + 999) / 1000)));
+
+        String body = "{\"success\":false,\"message\":\"Too many requests, please retry later\"}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        // Ahead of the response cache, so cached reads still count against the limits
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+    }
+}
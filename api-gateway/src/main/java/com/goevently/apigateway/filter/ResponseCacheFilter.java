@@ -0,0 +1,243 @@
+package com.goevently.apigateway.filter;
+
+import com.goevently.apigateway.cache.CachedResponse;
+import com.goevently.apigateway.cache.ResponseCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Response cache for the public event catalogue (app.response-cache.paths).
+ *
+ * Only anonymous GETs are cached; anything carrying an Authorization header goes straight
+ * through, so per-user responses are never stored. Hits are served with an ETag and answer
+ * If-None-Match with 304. Concurrent misses for the same key are coalesced: one request goes
+ * upstream and the others wait for its response. Entries expire after the TTL and are
+ * dropped early when event-service publishes a change (see CacheInvalidationListener).
+ *
+ * Bodies are fetched and stored uncompressed; large entries keep a gzip copy that is sent
+ * as-is to clients accepting gzip, so hits skip the per-response compressor.
+ */
+@Component
+@Slf4j
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${app.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.response-cache.paths:/api/events,/api/venues,/api/categories}")
+    private String paths;
+
+    @Value("${app.response-cache.max-body-bytes:262144}")
+    private int maxBodyBytes;
+
+    @Value("${app.response-cache.coalesce-timeout-ms:5000}")
+    private long coalesceTimeoutMs;
+
+    private List<String> cachedPrefixes;
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        cachedPrefixes = Arrays.stream(paths.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || !isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = ResponseCache.keyFor(request.getPath().value(), request.getQueryParams());
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return serve(exchange, cached, "HIT");
+        }
+
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            // Identical miss already upstream: wait for it, or go upstream ourselves if it was not cacheable
+            return leader.asMono()
+                    .timeout(Duration.ofMillis(coalesceTimeoutMs))
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .onErrorReturn(Optional.empty())
+                    .flatMap(entry -> entry.isPresent()
+                            ? serve(exchange, entry.get(), "COALESCED")
+                            : chain.filter(exchange));
+        }
+
+        long generation = responseCache.currentGeneration();
+        CapturingResponse capturing = new CapturingResponse(exchange, key, generation, sink);
+        // Ask upstream for identity bytes; what is stored must be servable to every client
+        ServerHttpRequest identityRequest = request.mutate()
+                .headers(headers -> headers.remove(HttpHeaders.ACCEPT_ENCODING))
+                .build();
+        return chain.filter(exchange.mutate().request(identityRequest).response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return false;
+        }
+        // Keyed by path only, so alternative representations (e.g. application/x-msgpack) bypass the cache
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains("msgpack")) {
+            return false;
+        }
+        String path = request.getPath().value();
+        return cachedPrefixes.stream().anyMatch(path::startsWith);
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse entry, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        boolean gzip = entry.gzipBody() != null && acceptsGzip(exchange.getRequest());
+        headers.setETag(gzip ? entry.gzipEtag() : entry.etag());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.set(HttpHeaders.AGE, Long.toString((System.currentTimeMillis() - entry.storedAt()) / 1000));
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+
+        if (matchesIfNoneMatch(exchange.getRequest(), entry.etag())
+                || (entry.gzipBody() != null && matchesIfNoneMatch(exchange.getRequest(), entry.gzipEtag()))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (entry.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType());
+        }
+        byte[] body = gzip ? entry.gzipBody() : entry.body();
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("W/" + etag) || ifNoneMatch.contains("*");
+    }
+
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        // Must wrap the response before NettyWriteResponseFilter writes the upstream body into it
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Buffers a cacheable upstream body, stores it, hands it to waiting requests and then writes it
+     */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long generation;
+        private final Sinks.One<CachedResponse> sink;
+
+        CapturingResponse(ServerWebExchange exchange, String key, long generation, Sinks.One<CachedResponse> sink) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.generation = generation;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isStorable()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        if (bytes.length > maxBodyBytes) {
+                            // Chunked body turned out too large to keep; waiters go upstream themselves
+                            return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        }
+
+                        HttpHeaders headers = getHeaders();
+                        CachedResponse entry = responseCache.put(key,
+                                headers.getFirst(HttpHeaders.CONTENT_TYPE), bytes, headers.getETag(), generation);
+                        sink.tryEmitValue(entry);
+
+                        headers.setETag(entry.etag());
+                        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+                        headers.set(CACHE_STATUS_HEADER, "MISS");
+                        if (matchesIfNoneMatch(exchange.getRequest(), entry.etag())) {
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            headers.remove(HttpHeaders.CONTENT_LENGTH);
+                            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                            return getDelegate().setComplete();
+                        }
+                        return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        private boolean isStorable() {
+            HttpHeaders headers = getHeaders();
+            String cacheControl = headers.getCacheControl();
+            long contentLength = headers.getContentLength();
+            String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+            return HttpStatus.OK.equals(getStatusCode())
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && (contentEncoding == null || contentEncoding.equalsIgnoreCase("identity"))
+                    && (cacheControl == null || !(cacheControl.contains("private") || cacheControl.contains("no-store")))
+                    && (contentLength < 0 || contentLength <= maxBodyBytes);
+        }
+    }
+}
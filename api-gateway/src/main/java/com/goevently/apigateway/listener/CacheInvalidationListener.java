@@ -0,0 +1,33 @@
+package com.goevently.apigateway.listener;
+
+import com.goevently.apigateway.cache.ResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached catalogue responses when event-service publishes a change.
+ *
+ * Every gateway instance holds its own cache, so each consumes with its own group id and sees
+ * every message. Only the topic matters; the payload is not read. Venue and category changes
+ * are not published and expire with the TTL.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationListener {
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @KafkaListener(
+            topics = {"event-created", "event-updated", "event-deleted", "ticket-tier-created"},
+            groupId = "${app.response-cache.invalidation-group-id}",
+            autoStartup = "${app.response-cache.invalidation-enabled:true}",
+            properties = {"auto.offset.reset=latest"})
+    public void onEventChange(ConsumerRecord<String, String> record) {
+        log.debug("Invalidating cached event responses after {}", record.topic());
+        responseCache.invalidate("/api/events");
+    }
+}
@@ -0,0 +1,141 @@
+package com.goevently.apigateway.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-instance load seen by the gateway: requests outstanding and a peak-sensitive EWMA of
+ * response latency. Fed by the load balancer lifecycle around every lb:// call and read by
+ * {@link PeakEwmaLoadBalancer}. Exposed as gateway.lb.instance.outstanding and
+ * gateway.lb.instance.latency gauges tagged by service and instance.
+ */
+@Component
+public class InstanceLoadStats implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    // Latency charged for a failed call, so an erroring instance looks slow rather than fast
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.load-balancer.decay-ms:10000}")
+    private long decayMs;
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        RequestDataContext context = request.getContext();
+        if (context != null && context.getRequestStartTime() == 0) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+        begin(lbResponse.getServer());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long latency = 0;
+        Object context = completionContext.getLoadBalancerRequest() != null
+                ? completionContext.getLoadBalancerRequest().getContext() : null;
+        if (context instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            latency = System.nanoTime() - timed.getRequestStartTime();
+        }
+        ResponseData response = completionContext.getClientResponse();
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        end(lbResponse.getServer(), latency, failed);
+    }
+
+    /**
+     * A call to the instance has started (also used by callers that bypass the lb:// filter)
+     */
+    public void begin(ServiceInstance instance) {
+        statsFor(instance).outstanding.incrementAndGet();
+    }
+
+    /**
+     * A call started with {@link #begin} has finished, been cancelled or failed
+     */
+    public void end(ServiceInstance instance, long latencyNanos, boolean failed) {
+        Stats instanceStats = statsFor(instance);
+        instanceStats.outstanding.decrementAndGet();
+        instanceStats.observe(failed ? Math.max(latencyNanos, FAILURE_PENALTY_NANOS) : latencyNanos, decayMs);
+    }
+
+    /**
+     * Load score for choosing between instances: latency EWMA weighted by requests in flight
+     */
+    public double cost(ServiceInstance instance) {
+        Stats instanceStats = statsFor(instance);
+        // +1ms keeps an instance with no samples yet from looking free regardless of its queue
+        return (instanceStats.ewmaNanos / 1_000_000.0 + 1) * (instanceStats.outstanding.get() + 1);
+    }
+
+    private Stats statsFor(ServiceInstance instance) {
+        String key = instance.getServiceId() + "|" + instance.getHost() + ":" + instance.getPort();
+        return stats.computeIfAbsent(key, k -> {
+            Stats created = new Stats();
+            String instanceTag = instance.getHost() + ":" + instance.getPort();
+            Gauge.builder("gateway.lb.instance.outstanding", created, s -> s.outstanding.get())
+                    .tag("service", instance.getServiceId()).tag("instance", instanceTag)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.lb.instance.latency", created, s -> s.ewmaNanos / 1_000_000.0)
+                    .tag("service", instance.getServiceId()).tag("instance", instanceTag)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    private static class Stats {
+        final AtomicInteger outstanding = new AtomicInteger();
+        volatile double ewmaNanos;
+        private long lastObserved = System.nanoTime();
+
+        synchronized void observe(long latencyNanos, long decayMs) {
+            long now = System.nanoTime();
+            if (latencyNanos > ewmaNanos) {
+                // Peak-sensitive: a slow response takes effect at once, recovery decays over time
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - lastObserved) / (decayMs * 1_000_000.0));
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastObserved = now;
+        }
+    }
+}
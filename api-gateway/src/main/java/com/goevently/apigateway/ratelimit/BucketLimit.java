@@ -0,0 +1,11 @@
+package com.goevently.apigateway.ratelimit;
+
+/**
+ * One token bucket to charge for a request
+ *
+ * @param key bucket identity, e.g. {@code rl:{booking-service}:user:42}
+ * @param capacity burst size
+ * @param refillPerSecond sustained rate
+ */
+public record BucketLimit(String key, long capacity, double refillPerSecond) {
+}
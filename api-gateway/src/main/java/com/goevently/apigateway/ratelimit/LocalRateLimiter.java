@@ -0,0 +1,105 @@
+package com.goevently.apigateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory token buckets for a single gateway instance (app.rate-limit.mode=local).
+ *
+ * A check is a map lookup and a few arithmetic operations under a per-bucket lock, with no
+ * I/O, so it runs inline on the event loop.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public LocalRateLimiter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(List<BucketLimit> limits) {
+        return Mono.just(acquire(limits));
+    }
+
+    /**
+     * Take one token from each bucket; tokens already taken are refunded if a later bucket is empty
+     */
+    public RateLimitDecision acquire(List<BucketLimit> limits) {
+        long now = System.nanoTime();
+        for (int i = 0; i < limits.size(); i++) {
+            BucketLimit limit = limits.get(i);
+            long waitMs = bucketFor(limit.key(), now).tryTake(now, limit.capacity(), limit.refillPerSecond());
+            if (waitMs > 0) {
+                for (int j = 0; j < i; j++) {
+                    buckets.get(limits.get(j).key()).refund(limits.get(j).capacity());
+                }
+                return RateLimitDecision.denied(waitMs);
+            }
+        }
+        return RateLimitDecision.ALLOWED;
+    }
+
+    private Bucket bucketFor(String key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictIdle(now);
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(now));
+    }
+
+    private void evictIdle(long now) {
+        // A bucket untouched for a minute has refilled for any sane limit; dropping it loses nothing
+        long cutoff = now - 60_000_000_000L;
+        buckets.values().removeIf(bucket -> bucket.lastRefill < cutoff);
+        if (buckets.size() >= maxKeys) {
+            log.warn("Rate-limit table still holds {} keys after eviction; resetting", buckets.size());
+            buckets.clear();
+        }
+    }
+
+    private static class Bucket {
+        private double tokens = -1;
+        private volatile long lastRefill;
+
+        Bucket(long now) {
+            this.lastRefill = now;
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise milliseconds until one is available
+         */
+        synchronized long tryTake(long now, long capacity, double refillPerSecond) {
+            if (tokens < 0) {
+                tokens = capacity;
+            } else {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) / 1_000_000_000.0 * refillPerSecond);
+            }
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) * 1000 / refillPerSecond));
+        }
+
+        synchronized void refund(long capacity) {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
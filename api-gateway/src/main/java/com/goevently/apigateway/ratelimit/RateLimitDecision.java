@@ -0,0 +1,13 @@
+package com.goevently.apigateway.ratelimit;
+
+/**
+ * Outcome of a rate-limit check; retryAfterMs is 0 when the request is allowed
+ */
+public record RateLimitDecision(boolean allowed, long retryAfterMs) {
+
+    public static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision denied(long retryAfterMs) {
+        return new RateLimitDecision(false, retryAfterMs);
+    }
+}
@@ -0,0 +1,13 @@
+package com.goevently.apigateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Token-bucket rate limiter. A request takes one token from every given bucket, or from none.
+ */
+public interface RateLimiter {
+
+    Mono<RateLimitDecision> tryAcquire(List<BucketLimit> limits);
+}
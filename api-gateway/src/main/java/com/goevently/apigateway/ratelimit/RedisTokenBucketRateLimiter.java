@@ -0,0 +1,99 @@
+package com.goevently.apigateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cluster-wide token buckets in Redis (app.rate-limit.mode=redis).
+ *
+ * All buckets for a request are checked and charged by one Lua script, so the check is one
+ * atomic round trip and uses the Redis clock rather than each gateway's. Keys share a
+ * {route} hash tag so a multi-key check stays in one cluster slot. If Redis is unreachable
+ * the gateway falls back to per-instance buckets rather than failing requests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "redis")
+@Slf4j
+public class RedisTokenBucketRateLimiter implements RateLimiter {
+
+    private static final RedisScript<List> SCRIPT = RedisScript.of("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local tokens = {}
+            local wait = 0
+            for i = 1, #KEYS do
+              local capacity = tonumber(ARGV[2 * i - 1])
+              local rate = tonumber(ARGV[2 * i])
+              local state = redis.call('HMGET', KEYS[i], 't', 'ts')
+              local current = tonumber(state[1])
+              if current == nil then
+                current = capacity
+              else
+                current = math.min(capacity, current + (now - tonumber(state[2])) * rate / 1000)
+              end
+              tokens[i] = current
+              if current < 1 then
+                wait = math.max(wait, math.ceil((1 - current) * 1000 / rate))
+              end
+            end
+            if wait > 0 then
+              return {0, wait}
+            end
+            for i = 1, #KEYS do
+              local capacity = tonumber(ARGV[2 * i - 1])
+              local rate = tonumber(ARGV[2 * i])
+              redis.call('HSET', KEYS[i], 't', tostring(tokens[i] - 1), 'ts', now)
+              redis.call('PEXPIRE', KEYS[i], math.ceil(capacity * 1000 / rate) + 1000)
+            end
+            return {1, 0}
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final LocalRateLimiter fallback;
+    private volatile boolean redisAvailable = true;
+
+    public RedisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                       @Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = new LocalRateLimiter(maxKeys);
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(List<BucketLimit> limits) {
+        List<String> keys = new ArrayList<>(limits.size());
+        List<String> args = new ArrayList<>(limits.size() * 2);
+        for (BucketLimit limit : limits) {
+            keys.add(limit.key());
+            args.add(Long.toString(limit.capacity()));
+            args.add(Double.toString(limit.refillPerSecond()));
+        }
+
+        return redisTemplate.execute(SCRIPT, keys, args)
+                .next()
+                .map(result -> {
+                    if (!redisAvailable) {
+                        redisAvailable = true;
+                        log.info("Redis rate limiter reachable again");
+                    }
+                    List<?> values = (List<?>) result;
+                    boolean allowed = ((Number) values.get(0)).longValue() == 1;
+                    return allowed ? RateLimitDecision.ALLOWED
+                            : RateLimitDecision.denied(((Number) values.get(1)).longValue());
+                })
+                .onErrorResume(e -> {
+                    if (redisAvailable) {
+                        redisAvailable = false;
+                        log.warn("Redis rate limiter unavailable ({}), using local buckets", e.getMessage());
+                    }
+                    return Mono.just(fallback.acquire(limits));
+                });
+    }
+}
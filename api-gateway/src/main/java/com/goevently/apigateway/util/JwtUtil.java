@@ -1,13 +1,12 @@
 package com.goevently.apigateway.util;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.function.Function;
 
@@ -22,8 +21,22 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.max-entries:50000}")
+    private int tokenCacheMaxEntries;
+
+    private VerifiedTokenCache tokenCache;
+
+    @PostConstruct
+    void init() {
+        tokenCache = new VerifiedTokenCache(Keys.hmacShaKeyFor(jwtSecret.getBytes()), tokenCacheMaxEntries);
+    }
+
+    /**
+     * Verify the token once and return all its claims; repeat tokens are served from the cache.
+     * Throws if the token is invalid or expired.
+     */
+    public Claims parseAndVerify(String token) {
+        return tokenCache.verify(token);
     }
 
     public String extractUsername(String token) {
@@ -48,11 +61,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseAndVerify(token);
     }
 
     public Boolean isTokenExpired(String token) {
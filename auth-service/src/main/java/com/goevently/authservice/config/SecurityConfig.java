@@ -2,6 +2,7 @@
 
 package com.goevently.authservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -43,11 +44,12 @@ public class SecurityConfig {
 
     /**
      * Provides a password encoder bean.
+     * Raising the cost factor takes effect for existing users at their next login (rehash-on-login).
      *
      * @return A BCryptPasswordEncoder instance.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password-hashing.bcrypt-cost:10}") int bcryptCost) {
+        return new BCryptPasswordEncoder(bcryptCost);
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.goevently.authservice.config;
+
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual-thread execution mode, active when spring.threads.virtual.enabled=true on Java 21+.
+ *
+ * Spring Boot then serves Tomcat requests and runs @Async / @Scheduled work on virtual threads.
+ * This class adds pinning diagnostics.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Value("${app.virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+    /**
+     * Streams JFR pinning events in-process and logs where a virtual thread blocked while
+     * pinned to its carrier (e.g. I/O inside a synchronized block), which caps concurrency.
+     */
+    @Bean(destroyMethod = "close")
+    public RecordingStream virtualThreadPinningMonitor() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            String frames = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                    .limit(8)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            log.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), frames);
+        });
+        stream.startAsync();
+        log.info("Virtual threads enabled; logging pinned waits over {} ms", pinnedThresholdMs);
+        return stream;
+    }
+}
@@ -2,6 +2,7 @@ package com.goevently.authservice.exception;
 
 import com.goevently.authservice.dto.AuthResponse;  // ✅ CORRECT: Use auth-service DTO
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -35,6 +36,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    /**
+     * Handle a saturated password hashing pool: fail fast and let the client back off.
+     */
+    @ExceptionHandler(HashingOverloadedException.class)
+    public ResponseEntity<AuthResponse> handleHashingOverloaded(HashingOverloadedException e) {
+        log.warn("Password hashing overloaded: {}", e.getMessage());
+
+        AuthResponse response = AuthResponse.builder()
+                .success(false)
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * Handle IllegalArgumentException (from your current code).
      */
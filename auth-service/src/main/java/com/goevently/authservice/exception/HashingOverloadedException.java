@@ -0,0 +1,10 @@
+package com.goevently.authservice.exception;
+
+/**
+ * Thrown when the password hashing executor is saturated; mapped to 503 with Retry-After.
+ */
+public class HashingOverloadedException extends RuntimeException {
+    public HashingOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -2,7 +2,11 @@ package com.goevently.authservice.repository;
 
 import com.goevently.authservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -27,4 +31,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * This method allows login with either credential.
      */
     Optional<User> findByUsernameOrEmail(String username, String email);
+
+    /**
+     * Replaces a password hash only if it is still the one that was checked,
+     * so a rehash after login never overwrites a concurrent password change.
+     *
+     * @return the number of rows updated (0 or 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
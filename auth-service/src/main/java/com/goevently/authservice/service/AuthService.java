@@ -10,21 +10,22 @@ import com.goevently.authservice.repository.UserRepository;
 import com.goevently.authservice.util.JwtUtil;
 import lombok.extern.slf4j.Slf4j;  // ← NEW IMPORT
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @Slf4j  // ← NEW ANNOTATION for logging
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
 
     @Autowired
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, PasswordHashingService passwordHashingService, JwtUtil jwtUtil) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
     }
 
@@ -53,7 +54,7 @@ public class AuthService {
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .role(userRole)  // ✅ Use parsed role instead of hardcoded USER
                 .build();
 
@@ -89,10 +90,14 @@ public class AuthService {
                 .orElseThrow(() -> new AuthException("Invalid username/email or password"));
 
         // ✅ Validate password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new AuthException("Invalid username/email or password");
         }
 
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehashInBackground(user, request.getPassword());
+        }
+
         // Generate token with role and userId
         String token = jwtUtil.generateToken(
                 user.getUsername(),
@@ -113,4 +118,24 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Upgrade a hash made with an older, lower cost factor; the login itself does not wait for it.
+     * Skipped when the hashing pool is busy; the next login tries again.
+     */
+    private void rehashInBackground(User user, String rawPassword) {
+        CompletableFuture<String> rehash = passwordHashingService.encodeInBackground(rawPassword);
+        if (rehash == null) {
+            return;
+        }
+
+        String oldHash = user.getPassword();
+        rehash.thenAccept(newHash -> {
+            if (userRepository.replacePasswordHash(user.getId(), oldHash, newHash) == 1) {
+                log.info("Upgraded password hash cost for user: {}", user.getUsername());
+            }
+        }).exceptionally(e -> {
+            log.warn("Password rehash for user {} failed: {}", user.getUsername(), e.getMessage());
+            return null;
+        });
+    }
 }
@@ -0,0 +1,190 @@
+package com.goevently.authservice.service;
+
+import com.goevently.authservice.exception.HashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt encode/matches on a small dedicated pool instead of request threads.
+ *
+ * The pool has one thread per core and a bounded queue. A request is rejected straight away
+ * when the queue is full or the expected wait already exceeds the queue-time SLO, and a task
+ * that still waited longer than the SLO is dropped unhashed (its caller has given up). A login
+ * storm therefore costs a bounded amount of CPU and turns into fast 503s, while other endpoints
+ * keep their threads.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.password-hashing.max-queue-ms:500}")
+    private long maxQueueMs;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueTimer;
+    private Timer hashTimer;
+    private Counter rejected;
+
+    // Smoothed hash duration, used to estimate the wait of a new task before queueing it
+    private volatile double avgHashNanos;
+
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        queueTimer = Timer.builder("auth.password.hashing.queue").register(meterRegistry);
+        hashTimer = Timer.builder("auth.password.hashing.duration").register(meterRegistry);
+        rejected = Counter.builder("auth.password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+
+        log.info("Password hashing pool: {} threads, queue {}, queue-time SLO {} ms", poolSize, queueCapacity, maxQueueMs);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Hash a password
+     *
+     * @throws HashingOverloadedException if the pool cannot hash it within the queue-time SLO
+     */
+    public String encode(String rawPassword) {
+        return await(submit(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Check a password against a stored hash
+     *
+     * @throws HashingOverloadedException if the pool cannot check it within the queue-time SLO
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Hash a password in the background, e.g. to upgrade a stored hash after login
+     *
+     * @return the pending hash, or null when the pool is busy (the work is simply skipped)
+     */
+    public CompletableFuture<String> encodeInBackground(String rawPassword) {
+        try {
+            return submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (HashingOverloadedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * True when a stored hash was made with a lower cost than the configured one
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        int poolSize = executor.getMaximumPoolSize();
+        double expectedWaitNanos = avgHashNanos * executor.getQueue().size() / poolSize;
+        if (expectedWaitNanos > TimeUnit.MILLISECONDS.toNanos(maxQueueMs)) {
+            throw overloaded();
+        }
+
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                long queuedNanos = startedAt - enqueuedAt;
+                queueTimer.record(queuedNanos, TimeUnit.NANOSECONDS);
+                if (result.isDone()) {
+                    // The caller timed out and was already answered; do not burn CPU for nobody
+                    return;
+                }
+                if (queuedNanos > TimeUnit.MILLISECONDS.toNanos(maxQueueMs)) {
+                    result.completeExceptionally(overloaded());
+                    return;
+                }
+                try {
+                    result.complete(work.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    long hashNanos = System.nanoTime() - startedAt;
+                    hashTimer.record(hashNanos, TimeUnit.NANOSECONDS);
+                    avgHashNanos = avgHashNanos == 0 ? hashNanos : avgHashNanos * 0.9 + hashNanos * 0.1;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+        return result;
+    }
+
+    private <T> T await(CompletableFuture<T> result) {
+        // Queue-time SLO plus a generous allowance for the hash itself
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueMs) + Math.max((long) avgHashNanos * 4,
+                TimeUnit.SECONDS.toNanos(1));
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            HashingOverloadedException overloaded = overloaded();
+            result.completeExceptionally(overloaded);
+            throw overloaded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private HashingOverloadedException overloaded() {
+        rejected.increment();
+        return new HashingOverloadedException("Authentication is busy, please retry shortly");
+    }
+}
@@ -1,15 +1,22 @@
 package com.goevently.bookingservice.config;
 
 import com.goevently.bookingservice.dto.BookingMessage;
+import com.goevently.bookingservice.dto.PaymentMessage;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
@@ -28,6 +35,21 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    // Present only in virtual-thread mode (see VirtualThreadConfig)
+    @Autowired(required = false)
+    @Qualifier("kafkaListenerTaskExecutor")
+    private AsyncTaskExecutor listenerTaskExecutor;
+
+    @Value("${app.saga.retry-interval-ms:1000}")
+    private long sagaRetryIntervalMs;
+
+    @Value("${app.saga.max-retries:5}")
+    private long sagaMaxRetries;
+
+    // Dead-lettered records keep their JSON bodies, so the existing producer can publish them
+    @Autowired
+    private KafkaTemplate<String, BookingMessage> kafkaTemplate;
+
     @Bean
     public ConsumerFactory<String, BookingMessage> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -57,7 +79,99 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3);
         factory.getContainerProperties().setPollTimeout(1000);
+        if (listenerTaskExecutor != null) {
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
         factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(0, 0)));
         return factory;
     }
+
+    /**
+     * Consumer for payment-service events. Offsets are committed by the container after each
+     * processed batch (not auto-committed), so a failed saga step is redelivered.
+     */
+    @Bean
+    public ConsumerFactory<String, PaymentMessage> paymentConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 200);
+
+        JsonDeserializer<PaymentMessage> jsonDeserializer = new JsonDeserializer<>(PaymentMessage.class);
+        jsonDeserializer.addTrustedPackages("*");
+        jsonDeserializer.setUseTypeHeaders(false);
+        jsonDeserializer.setRemoveTypeHeaders(false);
+
+        ErrorHandlingDeserializer<String> keyDeserializer =
+                new ErrorHandlingDeserializer<>(new StringDeserializer());
+        ErrorHandlingDeserializer<PaymentMessage> valueDeserializer =
+                new ErrorHandlingDeserializer<>(jsonDeserializer);
+
+        return new DefaultKafkaConsumerFactory<>(props, keyDeserializer, valueDeserializer);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentMessage> paymentBatchListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(paymentConsumerFactory());
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setPollTimeout(1000);
+        if (listenerTaskExecutor != null) {
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
+        factory.setCommonErrorHandler(sagaErrorHandler());
+        return factory;
+    }
+
+    /**
+     * Consumer for booking-seat-release (see SeatReleaseListener); committed by the container
+     * only after the release succeeded or was dead-lettered.
+     */
+    @Bean
+    public ConsumerFactory<String, BookingMessage> seatReleaseConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        JsonDeserializer<BookingMessage> jsonDeserializer = new JsonDeserializer<>(BookingMessage.class);
+        jsonDeserializer.addTrustedPackages("*");
+        jsonDeserializer.setUseTypeHeaders(false);
+        jsonDeserializer.setRemoveTypeHeaders(false);
+
+        ErrorHandlingDeserializer<String> keyDeserializer =
+                new ErrorHandlingDeserializer<>(new StringDeserializer());
+        ErrorHandlingDeserializer<BookingMessage> valueDeserializer =
+                new ErrorHandlingDeserializer<>(jsonDeserializer);
+
+        return new DefaultKafkaConsumerFactory<>(props, keyDeserializer, valueDeserializer);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, BookingMessage> seatReleaseListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, BookingMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(seatReleaseConsumerFactory());
+        factory.getContainerProperties().setPollTimeout(1000);
+        if (listenerTaskExecutor != null) {
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
+        factory.setCommonErrorHandler(sagaErrorHandler());
+        return factory;
+    }
+
+    /**
+     * Retries a failing record, then publishes it to {topic}-dlt instead of dropping it.
+     * The partition is left to Kafka because a dead-letter topic may have fewer partitions.
+     */
+    private DefaultErrorHandler sagaErrorHandler() {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + "-dlt", -1));
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(sagaRetryIntervalMs, sagaMaxRetries));
+    }
 }
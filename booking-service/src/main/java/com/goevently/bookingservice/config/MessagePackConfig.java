@@ -0,0 +1,35 @@
+package com.goevently.bookingservice.config;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Optional MessagePack responses: a client sending Accept: application/x-msgpack gets the same
+ * body as JSON, encoded as MessagePack (smaller and cheaper to parse for large lists).
+ *
+ * The converter is appended after the JSON one, so wildcard or JSON Accept headers still get JSON.
+ */
+@Configuration
+public class MessagePackConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_MSGPACK = MediaType.parseMediaType("application/x-msgpack");
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Same modules and settings as the JSON mapper (dates, naming), different wire format
+        converters.add(new AbstractJackson2HttpMessageConverter(
+                objectMapperBuilder.factory(new MessagePackFactory()).build(), APPLICATION_MSGPACK) {
+        });
+    }
+}
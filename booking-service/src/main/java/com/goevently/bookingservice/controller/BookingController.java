@@ -3,8 +3,16 @@ package com.goevently.bookingservice.controller;
 import com.goevently.bookingservice.dto.ApiResponse;
 import com.goevently.bookingservice.dto.BookingRequest;
 import com.goevently.bookingservice.dto.BookingResponse;
+import com.goevently.bookingservice.dto.CartBookingRequest;
+import com.goevently.bookingservice.dto.CursorPage;
+import com.goevently.bookingservice.dto.EventBookingStatsResponse;
+import com.goevently.bookingservice.entity.BookingStatus;
 import com.goevently.bookingservice.exception.InvalidTokenException;
 import com.goevently.bookingservice.service.BookingService;
+import com.goevently.bookingservice.service.BookingStatsService;
+import com.goevently.bookingservice.service.CartCheckoutService;
+import com.goevently.bookingservice.service.IdempotentBookingService;
+import com.goevently.bookingservice.service.WaitingRoomService;
 import com.goevently.bookingservice.util.JwtTokenUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
@@ -26,6 +34,18 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private IdempotentBookingService idempotentBookingService;
+
+    @Autowired
+    private CartCheckoutService cartCheckoutService;
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
@@ -37,12 +57,15 @@ public class BookingController {
      * 1. Extract JWT from Authorization header
      * 2. Validate JWT signature
      * 3. Extract userId from JWT claims
-     * 4. Create booking for that user
+     * 4. Check waiting-room admission when the event is on a queued on-sale
+     * 5. Create booking for that user (or replay the booking created with the same Idempotency-Key)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<BookingResponse>> createBooking(
             @Valid @RequestBody BookingRequest request,
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken) {
 
         log.info("Received booking request for event: {}", request.getEventId());
 
@@ -60,8 +83,45 @@ public class BookingController {
         Long userId = jwtTokenUtil.getUserIdFromClaims(claims);
         log.info("Creating booking for user: {} for event: {}", userId, request.getEventId());
 
-        // Step 4: Create booking
-        BookingResponse booking = bookingService.createBooking(userId, request);
+        // Step 4: Check admission before touching the database
+        waitingRoomService.checkAdmission(request.getEventId(), userId, admissionToken);
+
+        // Step 5: Create booking
+        BookingResponse booking = idempotencyKey != null
+                ? idempotentBookingService.createBooking(userId, request, idempotencyKey)
+                : bookingService.createBooking(userId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.<BookingResponse>builder()
+                        .success(true)
+                        .message("Booking created successfully")
+                        .data(booking)
+                        .build());
+    }
+
+    /**
+     * Book several ticket tiers of one event in a single request
+     * POST /api/bookings/cart
+     *
+     * Seats across all tiers are reserved all-or-nothing and one booking is created.
+     */
+    @PostMapping("/cart")
+    public ResponseEntity<ApiResponse<BookingResponse>> createCartBooking(
+            @Valid @RequestBody CartBookingRequest request,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken) {
+
+        log.info("Received cart booking request for event: {}", request.getEventId());
+
+        String token = jwtTokenUtil.extractTokenFromHeader(authHeader);
+        if (token == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+        Long userId = jwtTokenUtil.getUserIdFromClaims(jwtTokenUtil.validateAndParseToken(token));
+
+        waitingRoomService.checkAdmission(request.getEventId(), userId, admissionToken);
+
+        BookingResponse booking = cartCheckoutService.checkout(userId, request);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.<BookingResponse>builder()
@@ -141,6 +201,90 @@ public class BookingController {
                 .build());
     }
 
+    /**
+     * Get a user's bookings by cursor, newest first
+     * GET /api/bookings/user/{userId}/cursor?cursor=...&size=20
+     *
+     * Unlike the page-number listing, cost does not grow with how deep the client scrolls.
+     */
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getUserBookingsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+
+        String token = jwtTokenUtil.extractTokenFromHeader(authHeader);
+        if (token == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+        Claims claims = jwtTokenUtil.validateAndParseToken(token);
+        Long requestingUserId = jwtTokenUtil.getUserIdFromClaims(claims);
+        log.info("User {} requesting bookings for user {} by cursor", requestingUserId, userId);
+
+        if (!userId.equals(requestingUserId)) {
+            jwtTokenUtil.requireAnyRole(claims, "ADMIN");
+        }
+
+        CursorPage<BookingResponse> bookings = bookingService.getUserBookings(userId, cursor, clampPageSize(size));
+
+        return ResponseEntity.ok(ApiResponse.<CursorPage<BookingResponse>>builder()
+                .success(true)
+                .message("User bookings retrieved successfully")
+                .data(bookings)
+                .build());
+    }
+
+    /**
+     * Get an event's bookings by cursor, newest first, optionally filtered by status
+     * GET /api/bookings/event/{eventId}/cursor?status=CONFIRMED&cursor=...&size=20
+     */
+    @GetMapping("/event/{eventId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> getEventBookingsByCursor(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching bookings for event: {} by cursor", eventId);
+
+        CursorPage<BookingResponse> bookings = bookingService.getEventBookings(eventId, status, cursor, clampPageSize(size));
+
+        return ResponseEntity.ok(ApiResponse.<CursorPage<BookingResponse>>builder()
+                .success(true)
+                .message("Event bookings retrieved successfully")
+                .data(bookings)
+                .build());
+    }
+
+    /**
+     * Seat counts by status and confirmed revenue for an event
+     * GET /api/bookings/event/{eventId}/stats
+     *
+     * Reads one pre-aggregated row instead of counting bookings. ADMIN or ORGANIZER only.
+     */
+    @GetMapping("/event/{eventId}/stats")
+    public ResponseEntity<ApiResponse<EventBookingStatsResponse>> getEventBookingStats(
+            @PathVariable Long eventId,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+        String token = jwtTokenUtil.extractTokenFromHeader(authHeader);
+        if (token == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+        jwtTokenUtil.requireAnyRole(jwtTokenUtil.validateAndParseToken(token), "ADMIN", "ORGANIZER");
+
+        EventBookingStatsResponse stats = bookingStatsService.getStats(eventId);
+
+        return ResponseEntity.ok(ApiResponse.<EventBookingStatsResponse>builder()
+                .success(true)
+                .message("Event booking stats retrieved successfully")
+                .data(stats)
+                .build());
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+
     /**
      * Confirm a booking (after payment success)
      */
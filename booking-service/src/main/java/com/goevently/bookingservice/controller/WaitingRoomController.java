@@ -0,0 +1,113 @@
+package com.goevently.bookingservice.controller;
+
+import com.goevently.bookingservice.dto.ApiResponse;
+import com.goevently.bookingservice.dto.WaitingRoomStatus;
+import com.goevently.bookingservice.exception.InvalidTokenException;
+import com.goevently.bookingservice.service.WaitingRoomService;
+import com.goevently.bookingservice.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/waiting-room")
+@Slf4j
+public class WaitingRoomController {
+
+    public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    /**
+     * Open the waiting room for an event going on sale (ADMIN or ORGANIZER)
+     * POST /api/waiting-room/{eventId}/open?admitPerSecond=100
+     */
+    @PostMapping("/{eventId}/open")
+    public ResponseEntity<ApiResponse<Void>> openRoom(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Integer admitPerSecond,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+        requireOrganizer(authHeader);
+        waitingRoomService.openRoom(eventId, admitPerSecond);
+
+        return ResponseEntity.ok(ApiResponse.<Void>builder()
+                .success(true)
+                .message("Waiting room opened")
+                .build());
+    }
+
+    /**
+     * Close the waiting room for an event (ADMIN or ORGANIZER)
+     */
+    @DeleteMapping("/{eventId}")
+    public ResponseEntity<ApiResponse<Void>> closeRoom(
+            @PathVariable Long eventId,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+        requireOrganizer(authHeader);
+        waitingRoomService.closeRoom(eventId);
+
+        return ResponseEntity.ok(ApiResponse.<Void>builder()
+                .success(true)
+                .message("Waiting room closed")
+                .build());
+    }
+
+    /**
+     * Join the queue for an event
+     * POST /api/waiting-room/{eventId}/join
+     */
+    @PostMapping("/{eventId}/join")
+    public ResponseEntity<ApiResponse<WaitingRoomStatus>> join(
+            @PathVariable Long eventId,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+
+        String token = jwtTokenUtil.extractTokenFromHeader(authHeader);
+        if (token == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+        Long userId = jwtTokenUtil.getUserIdFromClaims(jwtTokenUtil.validateAndParseToken(token));
+
+        return toResponse(waitingRoomService.join(eventId, userId));
+    }
+
+    /**
+     * Poll queue position
+     * GET /api/waiting-room/{eventId}/status with X-Queue-Token header
+     *
+     * Only verifies the queue token's signature and reads the room's Redis counters; no database access.
+     */
+    @GetMapping("/{eventId}/status")
+    public ResponseEntity<ApiResponse<WaitingRoomStatus>> status(
+            @PathVariable Long eventId,
+            @RequestHeader(QUEUE_TOKEN_HEADER) String queueToken) {
+        return toResponse(waitingRoomService.status(eventId, queueToken));
+    }
+
+    private void requireOrganizer(String authHeader) {
+        String token = jwtTokenUtil.extractTokenFromHeader(authHeader);
+        if (token == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+        jwtTokenUtil.requireAnyRole(jwtTokenUtil.validateAndParseToken(token), "ADMIN", "ORGANIZER");
+    }
+
+    private ResponseEntity<ApiResponse<WaitingRoomStatus>> toResponse(WaitingRoomStatus status) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (!status.getAdmitted()) {
+            // Hint when to poll next so clients don't hammer the endpoint
+            long retryAfter = Math.max(1, Math.min(30, status.getEstimatedWaitSeconds() / 2));
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        }
+        return builder.body(ApiResponse.<WaitingRoomStatus>builder()
+                .success(true)
+                .message(status.getAdmitted() ? "Admitted" : "Waiting in queue")
+                .data(status)
+                .build());
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -20,4 +21,6 @@ public class BookingMessage {
     private Integer seats;
     private String paymentId;
     private LocalDateTime bookingTime;
+    private List<BookingItemDto> items;
+    private String reservationId;
 }
@@ -1,11 +1,13 @@
 package com.goevently.bookingservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -21,4 +23,8 @@ public class BookingResponse {
     private String txnRef;
     private LocalDateTime bookingTime;
     private LocalDateTime createdAt;
+
+    // Tier lines, present only for multi-tier (cart) bookings
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<BookingItemDto> items;
 }
@@ -0,0 +1,22 @@
+package com.goevently.bookingservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBookingRequest {
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @NotEmpty(message = "At least one ticket tier is required")
+    @Valid
+    private List<BookingItemDto> items;
+}
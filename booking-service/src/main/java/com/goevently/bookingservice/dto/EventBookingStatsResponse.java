@@ -0,0 +1,23 @@
+package com.goevently.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBookingStatsResponse {
+    private Long eventId;
+    private Long pendingSeats;
+    private Long confirmedSeats;
+    private Long failedSeats;
+    private Long cancelledSeats;
+    private BigDecimal revenue;
+    private LocalDateTime updatedAt;
+}
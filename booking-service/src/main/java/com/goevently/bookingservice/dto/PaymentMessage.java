@@ -0,0 +1,29 @@
+package com.goevently.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Payment event published by payment-service (payment-success / payment-failed / payment-refund)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentMessage {
+    private Long id;
+    private Long bookingId;
+    private Long userId;
+    private Long eventId;
+    private BigDecimal amount;
+    private String currency;
+    private String status;
+    private String gatewayTxnId;
+    private LocalDateTime paymentTime;
+    private String failureReason;
+}
@@ -0,0 +1,21 @@
+package com.goevently.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Subset of event-service's ticket tier response used by checkout
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTierInfo {
+    private Long id;
+    private Long eventId;
+    private String name;
+    private BigDecimal price;
+    private Integer remainingQuantity;
+}
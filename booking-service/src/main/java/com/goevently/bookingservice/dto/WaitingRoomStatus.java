@@ -0,0 +1,21 @@
+package com.goevently.bookingservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitingRoomStatus {
+    private Long eventId;
+    private Boolean admitted;
+    private Long position;
+    private Long estimatedWaitSeconds;
+    private String queueToken;
+    private String admissionToken;
+}
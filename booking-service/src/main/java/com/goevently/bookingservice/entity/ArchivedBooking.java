@@ -0,0 +1,65 @@
+package com.goevently.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a settled booking moved out of the hot bookings table by BookingArchiver.
+ * Keeps the original ID and the columns needed to move it back if it changes state again
+ * (BookingService restores it on confirm, cancel or a payment event); the two indexes serve
+ * the user-history and per-event listings.
+ */
+@Entity
+@Table(name = "bookings_archive",
+        indexes = {
+                @Index(name = "idx_bookings_archive_user_time", columnList = "user_id, booking_time"),
+                @Index(name = "idx_bookings_archive_event", columnList = "event_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedBooking {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Convert(converter = BookingStatusConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private BookingStatus status;
+
+    @Column(name = "booking_time")
+    private LocalDateTime bookingTime;
+
+    @Column(name = "payment_id")
+    private String paymentId;
+
+    @Column(nullable = false)
+    private Integer seats;
+
+    @Column(name = "txn_ref")
+    private String txnRef;
+
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "reservation_id", length = 36)
+    private String reservationId;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -8,10 +8,23 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_booking_user_idempotency_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = {
+                // "My bookings", newest first (keyset on booking_time, id)
+                @Index(name = "idx_bookings_user_time", columnList = "user_id, booking_time"),
+                // Per-event listings and counts by status
+                @Index(name = "idx_bookings_event_status", columnList = "event_id, status"),
+                // Per-event keyset listing without a status filter (seek on id)
+                @Index(name = "idx_bookings_event_id", columnList = "event_id, id"),
+                // Range scans of the archival job
+                @Index(name = "idx_bookings_booking_time", columnList = "booking_time")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,8 +40,9 @@ public class Booking {
     @Column(nullable = false)
     private Long eventId;
 
-    @Column(nullable = false)
-    private String status;
+    @Convert(converter = BookingStatusConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private BookingStatus status;
 
     @Column(name = "booking_time")
     private LocalDateTime bookingTime;
@@ -42,6 +56,18 @@ public class Booking {
     @Column(name = "txn_ref")
     private String txnRef;
 
+    // Client-supplied Idempotency-Key; unique per user so retried creates resolve to one booking
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    // Amount charged: the tier lines' value for cart bookings, the captured payment otherwise
+    @Column(precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    // Cart bookings only: the event-service reservation holding this booking's tier seats
+    @Column(name = "reservation_id", length = 36)
+    private String reservationId;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,36 @@
+package com.goevently.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One ticket tier line of a multi-tier (cart) booking
+ */
+@Entity
+@Table(name = "booking_items", indexes = @Index(name = "idx_booking_items_booking_id", columnList = "booking_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "tier_id", nullable = false)
+    private Long tierId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "unit_price", precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+}
@@ -1,8 +1,31 @@
 package com.goevently.bookingservice.entity;
 
+/**
+ * Booking lifecycle states. Stored as a TINYINT code (see BookingStatusConverter);
+ * codes are fixed so reordering or adding constants never rewrites stored data.
+ */
 public enum BookingStatus {
-    PENDING,
-    CONFIRMED,
-    FAILED,
-    CANCELLED
+    PENDING(0),
+    CONFIRMED(1),
+    FAILED(2),
+    CANCELLED(3);
+
+    private final int code;
+
+    BookingStatus(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static BookingStatus fromCode(int code) {
+        for (BookingStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown booking status code: " + code);
+    }
 }
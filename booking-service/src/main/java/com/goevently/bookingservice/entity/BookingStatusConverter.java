@@ -0,0 +1,18 @@
+package com.goevently.bookingservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class BookingStatusConverter implements AttributeConverter<BookingStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(BookingStatus status) {
+        return status == null ? null : (byte) status.getCode();
+    }
+
+    @Override
+    public BookingStatus convertToEntityAttribute(Byte code) {
+        return code == null ? null : BookingStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,44 @@
+package com.goevently.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Per-event seat counts by booking status and confirmed revenue.
+ * Maintained incrementally by BookingService transitions; verified by BookingStatsVerifier.
+ */
+@Entity
+@Table(name = "event_booking_stats", indexes = @Index(name = "idx_event_booking_stats_updated_at", columnList = "updated_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBookingStats {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "pending_seats", nullable = false)
+    private Long pendingSeats;
+
+    @Column(name = "confirmed_seats", nullable = false)
+    private Long confirmedSeats;
+
+    @Column(name = "failed_seats", nullable = false)
+    private Long failedSeats;
+
+    @Column(name = "cancelled_seats", nullable = false)
+    private Long cancelledSeats;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
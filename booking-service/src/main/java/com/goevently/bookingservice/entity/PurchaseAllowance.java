@@ -0,0 +1,34 @@
+package com.goevently.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seats a user holds (pending or confirmed) for one event, shared by all instances.
+ * Changed only by conditional updates inside the booking's own transaction (see PurchaseLimiter).
+ */
+@Entity
+@Table(name = "purchase_allowances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_purchase_allowance_user_event",
+                columnNames = {"user_id", "event_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseAllowance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "seats_held", nullable = false)
+    private Integer seatsHeld;
+}
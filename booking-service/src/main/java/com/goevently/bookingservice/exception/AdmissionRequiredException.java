@@ -0,0 +1,7 @@
+package com.goevently.bookingservice.exception;
+
+public class AdmissionRequiredException extends RuntimeException {
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.goevently.bookingservice.exception;
+
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.goevently.bookingservice.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
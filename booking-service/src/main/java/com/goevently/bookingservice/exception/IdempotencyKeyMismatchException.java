@@ -0,0 +1,7 @@
+package com.goevently.bookingservice.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
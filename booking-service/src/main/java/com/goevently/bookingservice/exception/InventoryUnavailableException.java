@@ -0,0 +1,10 @@
+package com.goevently.bookingservice.exception;
+
+/**
+ * event-service could not be reached or did not answer; a reservation may or may not have been applied
+ */
+public class InventoryUnavailableException extends RuntimeException {
+    public InventoryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
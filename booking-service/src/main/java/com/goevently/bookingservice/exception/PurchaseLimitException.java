@@ -0,0 +1,7 @@
+package com.goevently.bookingservice.exception;
+
+public class PurchaseLimitException extends RuntimeException {
+    public PurchaseLimitException(String message) {
+        super(message);
+    }
+}
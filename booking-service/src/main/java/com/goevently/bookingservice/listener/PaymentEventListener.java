@@ -0,0 +1,50 @@
+package com.goevently.bookingservice.listener;
+
+import com.goevently.bookingservice.dto.PaymentMessage;
+import com.goevently.bookingservice.service.BookingSagaService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Consumes payment outcomes in batches and drives the booking saga.
+ *
+ * payment-service keys these topics by booking id, so one booking's events on one topic
+ * arrive in order; across the three topics they may not, which the saga steps tolerate.
+ * Records are applied in batch order; if one fails, the offsets before it are committed and
+ * the batch is retried from that record, which goes to the dead-letter topic once retries run out.
+ */
+@Service
+@Slf4j
+public class PaymentEventListener {
+
+    @Autowired
+    private BookingSagaService bookingSagaService;
+
+    @KafkaListener(
+            topics = {BookingSagaService.PAYMENT_SUCCESS, BookingSagaService.PAYMENT_FAILED, BookingSagaService.PAYMENT_REFUND},
+            containerFactory = "paymentBatchListenerContainerFactory")
+    public void onPaymentEvents(List<ConsumerRecord<String, PaymentMessage>> records) {
+        log.debug("Received batch of {} payment events", records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, PaymentMessage> record = records.get(i);
+            PaymentMessage payment = record.value();
+            if (payment == null || payment.getBookingId() == null) {
+                log.warn("Skipping unreadable payment event at {}-{}@{}", record.topic(), record.partition(), record.offset());
+                continue;
+            }
+
+            try {
+                bookingSagaService.onPaymentEvent(record.topic(), payment);
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Saga step failed for booking " + payment.getBookingId(), e, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.goevently.bookingservice.listener;
+
+import com.goevently.bookingservice.dto.BookingMessage;
+import com.goevently.bookingservice.service.KafkaProducerService;
+import com.goevently.bookingservice.service.TicketInventoryClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Returns a cancelled or failed cart booking's seats to event-service.
+ *
+ * Releases go through a topic so a failed call is retried rather than lost; a release that
+ * keeps failing lands on the dead-letter topic. Releases are idempotent per reservation ID,
+ * so redelivery and replaying the dead-letter topic are safe.
+ */
+@Service
+@Slf4j
+public class SeatReleaseListener {
+
+    @Autowired
+    private TicketInventoryClient ticketInventoryClient;
+
+    @KafkaListener(topics = KafkaProducerService.SEAT_RELEASE_TOPIC, containerFactory = "seatReleaseListenerContainerFactory")
+    public void onSeatRelease(BookingMessage booking) {
+        if (booking == null || booking.getReservationId() == null) {
+            log.warn("Skipping unreadable seat release");
+            return;
+        }
+
+        ticketInventoryClient.release(booking.getReservationId(), booking.getEventId(), booking.getItems());
+        log.info("Released seats for booking: {} (reservation {})", booking.getId(), booking.getReservationId());
+    }
+}
@@ -0,0 +1,99 @@
+package com.goevently.bookingservice.repository;
+
+import com.goevently.bookingservice.entity.ArchivedBooking;
+import com.goevently.bookingservice.entity.BookingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    // Copy hot rows into the archive in one statement
+    @Modifying
+    @Query(value = "INSERT INTO bookings_archive " +
+            "(id, user_id, event_id, status, booking_time, payment_id, seats, txn_ref, idempotency_key, reservation_id, amount, archived_at) " +
+            "SELECT id, user_id, event_id, status, booking_time, payment_id, seats, txn_ref, idempotency_key, reservation_id, amount, NOW(6) " +
+            "FROM bookings WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromHot(@Param("ids") List<Long> ids);
+
+    // Locks the archived row while it is being restored to the hot table
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ArchivedBooking b WHERE b.id = :id")
+    Optional<ArchivedBooking> findByIdForUpdate(@Param("id") Long id);
+
+    // Copy an archived row back into the hot table (the caller then deletes it here)
+    @Modifying
+    @Query(value = "INSERT INTO bookings " +
+            "(id, user_id, event_id, status, booking_time, payment_id, seats, txn_ref, idempotency_key, reservation_id, amount, created_at, updated_at) " +
+            "SELECT id, user_id, event_id, status, booking_time, payment_id, seats, txn_ref, idempotency_key, reservation_id, amount, " +
+            "COALESCE(booking_time, archived_at), NOW(6) " +
+            "FROM bookings_archive WHERE id = :id", nativeQuery = true)
+    int copyToHot(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM bookings_archive WHERE id = :id", nativeQuery = true)
+    int deleteArchived(@Param("id") Long id);
+
+    Long countByUserId(Long userId);
+
+    Long countByEventId(Long eventId);
+
+    // Booking stored under an idempotency key before it was archived
+    Optional<ArchivedBooking> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // Offset window of a user's archived bookings, newest first
+    @Query(value = "SELECT * FROM bookings_archive WHERE user_id = :userId " +
+            "ORDER BY booking_time DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ArchivedBooking> findUserBookings(@Param("userId") Long userId,
+                                           @Param("limit") int limit,
+                                           @Param("offset") long offset);
+
+    // Keyset window of a user's archived bookings, newest first
+    @Query(value = "SELECT * FROM bookings_archive WHERE user_id = :userId " +
+            "AND (booking_time < :bookingTime OR (booking_time = :bookingTime AND id < :id)) " +
+            "ORDER BY booking_time DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<ArchivedBooking> findUserBookingsAfter(@Param("userId") Long userId,
+                                                @Param("bookingTime") LocalDateTime bookingTime,
+                                                @Param("id") Long id,
+                                                @Param("limit") int limit);
+
+    // Offset window of an event's archived bookings, newest first
+    @Query(value = "SELECT * FROM bookings_archive WHERE event_id = :eventId " +
+            "ORDER BY id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ArchivedBooking> findEventBookings(@Param("eventId") Long eventId,
+                                            @Param("limit") int limit,
+                                            @Param("offset") long offset);
+
+    // Keyset window of an event's archived bookings, newest first (seeks on event_id, id)
+    @Query("SELECT b FROM ArchivedBooking b WHERE b.eventId = :eventId AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<ArchivedBooking> findEventBookingsAfter(@Param("eventId") Long eventId,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("SELECT b FROM ArchivedBooking b WHERE b.eventId = :eventId AND b.status = :status AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<ArchivedBooking> findEventBookingsByStatusAfter(@Param("eventId") Long eventId,
+                                                         @Param("status") BookingStatus status,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    // Raw seat totals per status for an event (used to verify EventBookingStats)
+    @Query("SELECT b.status, SUM(b.seats) FROM ArchivedBooking b WHERE b.eventId = :eventId GROUP BY b.status")
+    List<Object[]> sumSeatsByStatus(@Param("eventId") Long eventId);
+
+    // Amount of an event's archived bookings in a given status
+    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM ArchivedBooking b WHERE b.eventId = :eventId AND b.status = :status")
+    BigDecimal sumAmountByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") BookingStatus status);
+}
@@ -0,0 +1,14 @@
+package com.goevently.bookingservice.repository;
+
+import com.goevently.bookingservice.entity.BookingItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookingItemRepository extends JpaRepository<BookingItem, Long> {
+
+    // Tier lines of a cart booking
+    List<BookingItem> findByBookingId(Long bookingId);
+}
@@ -1,17 +1,30 @@
 package com.goevently.bookingservice.repository;
 
 import com.goevently.bookingservice.entity.Booking;
+import com.goevently.bookingservice.entity.BookingStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // Locks the row so state transitions on one booking run one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
     // Find bookings by user ID
     Page<Booking> findByUserId(Long userId, Pageable pageable);
 
@@ -19,11 +32,60 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Page<Booking> findByEventId(Long eventId, Pageable pageable);
 
     // Find bookings by event ID and status
-    List<Booking> findByEventIdAndStatus(Long eventId, String status);
+    List<Booking> findByEventIdAndStatus(Long eventId, BookingStatus status);
 
     // Find booking by user and event
     Optional<Booking> findByUserIdAndEventId(Long userId, Long eventId);
 
+    // Find booking created with a given idempotency key
+    Optional<Booking> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
     // Count confirmed bookings for an event
-    Long countByEventIdAndStatus(Long eventId, String status);
+    Long countByEventIdAndStatus(Long eventId, BookingStatus status);
+
+    // Oldest settled bookings booked before the cutoff (archival candidates)
+    @Query("SELECT b.id FROM Booking b WHERE b.bookingTime < :cutoff AND b.status <> :excluded " +
+            "ORDER BY b.bookingTime, b.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff,
+                                 @Param("excluded") BookingStatus excluded,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    // Raw seat totals per status for an event (used to verify EventBookingStats)
+    @Query("SELECT b.status, SUM(b.seats) FROM Booking b WHERE b.eventId = :eventId GROUP BY b.status")
+    List<Object[]> sumSeatsByStatus(@Param("eventId") Long eventId);
+
+    // Amount of an event's bookings in a given status (used to verify EventBookingStats revenue)
+    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM Booking b WHERE b.eventId = :eventId AND b.status = :status")
+    BigDecimal sumAmountByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") BookingStatus status);
+
+    // Keyset page of a user's bookings, newest first (walks idx_bookings_user_time)
+    @Query("SELECT b FROM Booking b WHERE b.userId = :userId " +
+            "ORDER BY b.bookingTime DESC, b.id DESC")
+    List<Booking> findUserBookingsFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.userId = :userId " +
+            "AND (b.bookingTime < :bookingTime OR (b.bookingTime = :bookingTime AND b.id < :id)) " +
+            "ORDER BY b.bookingTime DESC, b.id DESC")
+    List<Booking> findUserBookingsAfter(@Param("userId") Long userId,
+                                        @Param("bookingTime") LocalDateTime bookingTime,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // Keyset page of an event's bookings, newest first (walks idx_bookings_event_status)
+    @Query("SELECT b FROM Booking b WHERE b.eventId = :eventId AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<Booking> findEventBookingsAfter(@Param("eventId") Long eventId,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.eventId = :eventId AND b.status = :status AND b.id < :id " +
+            "ORDER BY b.id DESC")
+    List<Booking> findEventBookingsByStatusAfter(@Param("eventId") Long eventId,
+                                                 @Param("status") BookingStatus status,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
@@ -0,0 +1,47 @@
+package com.goevently.bookingservice.repository;
+
+import com.goevently.bookingservice.entity.EventBookingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventBookingStatsRepository extends JpaRepository<EventBookingStats, Long> {
+
+    // Add deltas atomically, creating the row on first use (no read-modify-write, no lost updates)
+    @Modifying
+    @Query(value = "INSERT INTO event_booking_stats " +
+            "(event_id, pending_seats, confirmed_seats, failed_seats, cancelled_seats, revenue, updated_at) " +
+            "VALUES (:eventId, :pending, :confirmed, :failed, :cancelled, :revenue, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "pending_seats = pending_seats + :pending, " +
+            "confirmed_seats = confirmed_seats + :confirmed, " +
+            "failed_seats = failed_seats + :failed, " +
+            "cancelled_seats = cancelled_seats + :cancelled, " +
+            "revenue = revenue + :revenue, " +
+            "updated_at = NOW(6)", nativeQuery = true)
+    void applyDelta(@Param("eventId") Long eventId,
+                    @Param("pending") long pending,
+                    @Param("confirmed") long confirmed,
+                    @Param("failed") long failed,
+                    @Param("cancelled") long cancelled,
+                    @Param("revenue") BigDecimal revenue);
+
+    // Locks the row so no transition can change it while it is being reconciled
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventBookingStats s WHERE s.eventId = :eventId")
+    Optional<EventBookingStats> findForUpdate(@Param("eventId") Long eventId);
+
+    // Events whose aggregate changed since the given time
+    @Query("SELECT s.eventId FROM EventBookingStats s WHERE s.updatedAt >= :since")
+    List<Long> findEventIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,45 @@
+package com.goevently.bookingservice.repository;
+
+import com.goevently.bookingservice.entity.PurchaseAllowance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PurchaseAllowanceRepository extends JpaRepository<PurchaseAllowance, Long> {
+
+    Optional<PurchaseAllowance> findByUserIdAndEventId(Long userId, Long eventId);
+
+    // Take seats only if the cap still allows it; 0 rows = over the cap (or no row yet)
+    @Modifying
+    @Query(value = "UPDATE purchase_allowances SET seats_held = seats_held + :seats " +
+            "WHERE user_id = :userId AND event_id = :eventId AND seats_held + :seats <= :maxSeats", nativeQuery = true)
+    int addSeatsWithinCap(@Param("userId") Long userId,
+                          @Param("eventId") Long eventId,
+                          @Param("seats") int seats,
+                          @Param("maxSeats") int maxSeats);
+
+    @Modifying
+    @Query(value = "UPDATE purchase_allowances SET seats_held = GREATEST(seats_held - :seats, 0) " +
+            "WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    int removeSeats(@Param("userId") Long userId,
+                    @Param("eventId") Long eventId,
+                    @Param("seats") int seats);
+
+    // First use of a (user, event): start from the seats its bookings already hold, archived ones included
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO purchase_allowances (user_id, event_id, seats_held) " +
+            "SELECT :userId, :eventId, COALESCE(SUM(seats), 0) FROM (" +
+            "SELECT seats FROM bookings WHERE user_id = :userId AND event_id = :eventId AND status IN (:statusCodes) " +
+            "UNION ALL " +
+            "SELECT seats FROM bookings_archive WHERE user_id = :userId AND event_id = :eventId AND status IN (:statusCodes)" +
+            ") held", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("eventId") Long eventId,
+                       @Param("statusCodes") List<Integer> statusCodes);
+}
@@ -0,0 +1,49 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.entity.BookingStatus;
+import com.goevently.bookingservice.repository.ArchivedBookingRepository;
+import com.goevently.bookingservice.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves settled bookings from the hot bookings table to bookings_archive.
+ * Each chunk is copied and deleted in one transaction, so a booking is always in exactly one table.
+ */
+@Service
+@Slf4j
+@Transactional
+public class BookingArchiveService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    /**
+     * Archive up to chunkSize non-pending bookings booked before the cutoff, oldest first
+     *
+     * @return number of bookings moved
+     */
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = bookingRepository.findArchivableIds(cutoff, BookingStatus.PENDING, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = archivedBookingRepository.copyFromHot(ids);
+        int deleted = bookingRepository.deleteByIdIn(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException("Archive chunk mismatch: copied " + copied + " but deleted " + deleted);
+        }
+        log.debug("Archived {} bookings up to ID {}", deleted, ids.get(ids.size() - 1));
+        return deleted;
+    }
+}
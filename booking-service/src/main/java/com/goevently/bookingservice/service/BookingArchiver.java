@@ -0,0 +1,56 @@
+package com.goevently.bookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nightly job keeping the hot bookings table bounded: settled bookings older than the
+ * retention window move to bookings_archive in small chunks, so no long transaction or
+ * large lock is ever held. Archiving goes by booking age, not event date, so a CONFIRMED
+ * booking for a far-off event can be archived; it stays visible because BookingService
+ * merges the archive into lookups by ID and idempotency key and into the user and event
+ * listings, and it stays writable because BookingService moves it back to the hot table
+ * when it is confirmed, cancelled or refunded.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingArchiver {
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
+    @Value("${app.archive.hot-retention-days:365}")
+    private int hotRetentionDays;
+
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.archive.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(hotRetentionDays);
+        long moved = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int count = bookingArchiveService.archiveChunk(cutoff, chunkSize);
+                moved += count;
+                if (count < chunkSize) {
+                    break;
+                }
+            }
+            log.info("Archived {} bookings booked before {}", moved, cutoff);
+        } catch (Exception e) {
+            log.error("Booking archival stopped after {} bookings", moved, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.PaymentMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Booking saga driven by payment events.
+ *
+ * Each step moves the booking in its own transaction (BookingService), which queues the
+ * release of cart seats only after commit, so a failed remote call never rolls back a
+ * committed transition. Steps check the current status first, which makes redelivered
+ * and out-of-order events harmless. A payment that succeeds after its booking was
+ * cancelled or failed is refunded; if the refund call fails the step is retried.
+ */
+@Service
+@Slf4j
+public class BookingSagaService {
+
+    public static final String PAYMENT_SUCCESS = "payment-success";
+    public static final String PAYMENT_FAILED = "payment-failed";
+    public static final String PAYMENT_REFUND = "payment-refund";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PaymentClient paymentClient;
+
+    public void onPaymentEvent(String topic, PaymentMessage payment) {
+        Long bookingId = payment.getBookingId();
+        log.info("Saga received {} for booking: {} (payment: {})", topic, bookingId, payment.getId());
+
+        String paymentId = String.valueOf(payment.getId());
+        switch (topic) {
+            case PAYMENT_SUCCESS -> {
+                if (bookingService.applyPaymentSuccess(bookingId, paymentId, payment.getAmount())) {
+                    paymentClient.refund(paymentId);
+                }
+            }
+            case PAYMENT_FAILED -> bookingService.applyPaymentFailure(bookingId);
+            case PAYMENT_REFUND -> bookingService.applyPaymentRefund(bookingId, paymentId);
+            default -> log.warn("Saga ignoring unexpected topic: {}", topic);
+        }
+    }
+}
@@ -1,19 +1,38 @@
 package com.goevently.bookingservice.service;
 
+import com.goevently.bookingservice.dto.BookingItemDto;
 import com.goevently.bookingservice.dto.BookingMessage;
 import com.goevently.bookingservice.dto.BookingRequest;
 import com.goevently.bookingservice.dto.BookingResponse;
+import com.goevently.bookingservice.dto.CursorPage;
+import com.goevently.bookingservice.entity.ArchivedBooking;
 import com.goevently.bookingservice.entity.Booking;
+import com.goevently.bookingservice.entity.BookingItem;
 import com.goevently.bookingservice.entity.BookingStatus;
+import com.goevently.bookingservice.repository.ArchivedBookingRepository;
+import com.goevently.bookingservice.repository.BookingItemRepository;
 import com.goevently.bookingservice.repository.BookingRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -23,24 +42,48 @@ public class BookingService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private BookingItemRepository bookingItemRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
     @Autowired
     private KafkaProducerService kafkaProducerService;
 
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Autowired
+    private PurchaseLimiter purchaseLimiter;
+
     /**
      * Create a new booking
      */
     public BookingResponse createBooking(Long userId, BookingRequest request) {
+        return createBooking(userId, request, null);
+    }
+
+    /**
+     * Create a new booking tagged with the client's idempotency key (may be null)
+     */
+    public BookingResponse createBooking(Long userId, BookingRequest request, String idempotencyKey) {
         log.info("Creating booking for user: {} for event: {}", userId, request.getEventId());
 
+        purchaseLimiter.countAttempt(userId, request.getEventId());
+        purchaseLimiter.acquireForTransaction(userId, request.getEventId(), request.getSeats());
+
         Booking booking = Booking.builder()
                 .userId(userId)
                 .eventId(request.getEventId())
                 .seats(request.getSeats())
-                .status(BookingStatus.PENDING.toString())
+                .status(BookingStatus.PENDING)
                 .bookingTime(LocalDateTime.now())
+                .idempotencyKey(idempotencyKey)
                 .build();
 
         Booking savedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordCreated(savedBooking);
         log.info("Booking created with ID: {}", savedBooking.getId());
 
         // Emit Kafka event
@@ -48,7 +91,7 @@ public class BookingService {
                 .id(savedBooking.getId())
                 .userId(savedBooking.getUserId())
                 .eventId(savedBooking.getEventId())
-                .status(savedBooking.getStatus())
+                .status(savedBooking.getStatus().name())
                 .seats(savedBooking.getSeats())
                 .bookingTime(savedBooking.getBookingTime())
                 .build();
@@ -57,98 +100,493 @@ public class BookingService {
         return mapToResponse(savedBooking);
     }
 
+    /**
+     * Create one booking covering several ticket tiers whose seats are already reserved
+     *
+     * @param reservationId the event-service reservation holding the seats
+     */
+    public BookingResponse createCartBooking(Long userId, Long eventId, String reservationId, List<BookingItemDto> items) {
+        int seats = items.stream().mapToInt(BookingItemDto::getQuantity).sum();
+        log.info("Creating cart booking for user: {} for event: {} with {} seats", userId, eventId, seats);
+
+        purchaseLimiter.acquireForTransaction(userId, eventId, seats);
+
+        Booking booking = Booking.builder()
+                .userId(userId)
+                .eventId(eventId)
+                .seats(seats)
+                .status(BookingStatus.PENDING)
+                .bookingTime(LocalDateTime.now())
+                .reservationId(reservationId)
+                .amount(items.stream()
+                        .filter(item -> item.getUnitPrice() != null)
+                        .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingItemRepository.saveAll(items.stream()
+                .map(item -> BookingItem.builder()
+                        .bookingId(savedBooking.getId())
+                        .tierId(item.getTierId())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .build())
+                .collect(Collectors.toList()));
+        bookingStatsService.recordCreated(savedBooking);
+        log.info("Cart booking created with ID: {}", savedBooking.getId());
+
+        // One consolidated Kafka event for the whole cart
+        BookingMessage message = BookingMessage.builder()
+                .id(savedBooking.getId())
+                .userId(savedBooking.getUserId())
+                .eventId(savedBooking.getEventId())
+                .status(savedBooking.getStatus().name())
+                .seats(savedBooking.getSeats())
+                .bookingTime(savedBooking.getBookingTime())
+                .items(items)
+                .build();
+        kafkaProducerService.sendBookingCreated(message);
+
+        BookingResponse response = mapToResponse(savedBooking);
+        response.setItems(items);
+        return response;
+    }
+
     /**
      * Get booking by ID
      */
+    @Transactional(readOnly = true)
     public BookingResponse getBooking(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
+                .or(() -> archivedBookingRepository.findById(bookingId).map(this::fromArchive))
                 .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
+
+        BookingResponse response = mapToResponse(booking);
+        List<BookingItem> items = bookingItemRepository.findByBookingId(bookingId);
+        if (!items.isEmpty()) {
+            response.setItems(items.stream().map(this::mapToItemDto).collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    /**
+     * Get the booking a user created with the given idempotency key, archived or not
+     */
+    public BookingResponse getBookingByIdempotencyKey(Long userId, String idempotencyKey) {
+        Booking booking = bookingRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .or(() -> archivedBookingRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                        .map(this::fromArchive))
+                .orElseThrow(() -> new RuntimeException("Booking not found for idempotency key: " + idempotencyKey));
         return mapToResponse(booking);
     }
 
     /**
      * Get all bookings for a user
      */
+    @Transactional(readOnly = true)
     public Page<BookingResponse> getUserBookings(Long userId, Pageable pageable) {
         log.info("Fetching bookings for user: {}", userId);
-        return bookingRepository.findByUserId(userId, pageable)
-                .map(this::mapToResponse);
+        Page<Booking> hot = bookingRepository.findByUserId(userId, pageable);
+        long coldTotal = archivedBookingRepository.countByUserId(userId);
+        if (coldTotal == 0) {
+            return hot.map(this::mapToResponse);
+        }
+
+        // Archived bookings are older than hot ones, so they follow the hot rows
+        List<BookingResponse> content = new ArrayList<>(hot.map(this::mapToResponse).getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0) {
+            long coldOffset = Math.max(0, pageable.getOffset() - hot.getTotalElements());
+            archivedBookingRepository.findUserBookings(userId, remaining, coldOffset).stream()
+                    .map(archived -> mapToResponse(fromArchive(archived)))
+                    .forEach(content::add);
+        }
+        return new PageImpl<>(content, pageable, hot.getTotalElements() + coldTotal);
     }
 
     /**
      * Get all bookings for an event
      */
+    @Transactional(readOnly = true)
     public Page<BookingResponse> getEventBookings(Long eventId, Pageable pageable) {
         log.info("Fetching bookings for event: {}", eventId);
-        return bookingRepository.findByEventId(eventId, pageable)
-                .map(this::mapToResponse);
+        Page<Booking> hot = bookingRepository.findByEventId(eventId, pageable);
+        long coldTotal = archivedBookingRepository.countByEventId(eventId);
+        if (coldTotal == 0) {
+            return hot.map(this::mapToResponse);
+        }
+
+        // Same layout as the user listing: hot rows first, then archived ones
+        List<BookingResponse> content = new ArrayList<>(hot.map(this::mapToResponse).getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0) {
+            long coldOffset = Math.max(0, pageable.getOffset() - hot.getTotalElements());
+            archivedBookingRepository.findEventBookings(eventId, remaining, coldOffset).stream()
+                    .map(archived -> mapToResponse(fromArchive(archived)))
+                    .forEach(content::add);
+        }
+        return new PageImpl<>(content, pageable, hot.getTotalElements() + coldTotal);
+    }
+
+    /**
+     * Get a user's bookings, newest first, by keyset (cursor) instead of OFFSET
+     *
+     * @param cursor nextCursor from the previous page, or null for the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getUserBookings(Long userId, String cursor, int size) {
+        // Fetch one extra row to learn whether another page exists
+        Pageable limit = PageRequest.of(0, size + 1);
+        // Upper bound for the first page that MySQL DATETIME can hold
+        LocalDateTime afterTime = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        long afterId = Long.MAX_VALUE;
+        List<Booking> rows;
+        if (cursor == null) {
+            rows = bookingRepository.findUserBookingsFirstPage(userId, limit);
+        } else {
+            String[] parts = decodeCursor(cursor, 2);
+            try {
+                afterTime = LocalDateTime.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor", e);
+            }
+            rows = bookingRepository.findUserBookingsAfter(userId, afterTime, afterId, limit);
+        }
+
+        // Merge in archived bookings past the same cursor; only needed once the hot rows run out
+        if (rows.size() <= size) {
+            List<Booking> merged = new ArrayList<>(rows);
+            archivedBookingRepository.findUserBookingsAfter(userId, afterTime, afterId, size + 1).stream()
+                    .map(this::fromArchive)
+                    .forEach(merged::add);
+            merged.sort(Comparator.comparing(Booking::getBookingTime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(Booking::getId)
+                    .reversed());
+            rows = merged.size() > size + 1 ? merged.subList(0, size + 1) : merged;
+        }
+
+        return toCursorPage(rows, size, last -> encodeCursor(last.getBookingTime() + "|" + last.getId()));
+    }
+
+    /**
+     * Get an event's bookings, newest first, by keyset; optionally only those in one status
+     *
+     * @param cursor nextCursor from the previous page, or null for the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getEventBookings(Long eventId, BookingStatus status, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        long afterId;
+        try {
+            afterId = cursor == null ? Long.MAX_VALUE : Long.parseLong(decodeCursor(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid cursor", e);
+        }
+
+        List<Booking> rows = new ArrayList<>(status == null
+                ? bookingRepository.findEventBookingsAfter(eventId, afterId, limit)
+                : bookingRepository.findEventBookingsByStatusAfter(eventId, status, afterId, limit));
+
+        // Archived bookings interleave with hot ones by ID (pending bookings are never archived,
+        // so an old one can sit in the hot table below newer archived IDs), so always merge
+        List<ArchivedBooking> archived = status == null
+                ? archivedBookingRepository.findEventBookingsAfter(eventId, afterId, limit)
+                : archivedBookingRepository.findEventBookingsByStatusAfter(eventId, status, afterId, limit);
+        if (!archived.isEmpty()) {
+            archived.stream().map(this::fromArchive).forEach(rows::add);
+            rows.sort(Comparator.comparing(Booking::getId).reversed());
+            if (rows.size() > size + 1) {
+                rows = rows.subList(0, size + 1);
+            }
+        }
+
+        return toCursorPage(rows, size, last -> encodeCursor(String.valueOf(last.getId())));
+    }
+
+    private CursorPage<BookingResponse> toCursorPage(List<Booking> rows, int size,
+                                                     Function<Booking, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<Booking> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<BookingResponse>builder()
+                .content(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    private String encodeCursor(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor, int expectedParts) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor", e);
+        }
+        if (parts.length != expectedParts) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        return parts;
     }
 
     /**
      * Confirm booking (called after payment success)
      */
     public BookingResponse confirmBooking(Long bookingId, String paymentId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        return confirmBooking(bookingId, paymentId, null);
+    }
+
+    /**
+     * Confirm booking, recording the captured amount on bookings that have none yet (non-cart bookings).
+     * Only PENDING bookings can be confirmed: a cancelled or failed booking has already given back
+     * its seats and purchase allowance. Repeating the same confirmation returns the booking unchanged.
+     */
+    public BookingResponse confirmBooking(Long bookingId, String paymentId, BigDecimal paidAmount) {
+        Booking booking = findForUpdate(bookingId)
+                .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
+        if (booking.getStatus() == BookingStatus.CONFIRMED && paymentId.equals(booking.getPaymentId())) {
+            log.info("Booking {} already confirmed with payment ID: {}", bookingId, paymentId);
+            return mapToResponse(booking);
+        }
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            throw new RuntimeException("Booking " + bookingId + " is " + booking.getStatus() + " and cannot be confirmed");
+        }
+        return mapToResponse(confirm(booking, paymentId, paidAmount));
+    }
+
+    /**
+     * Saga step for payment-success: PENDING -> CONFIRMED (emits booking-confirmed).
+     * Redelivered events leave the booking untouched.
+     *
+     * @return true if the booking was already cancelled or failed without this payment, so the
+     *         user was charged for nothing and the payment must be refunded
+     */
+    public boolean applyPaymentSuccess(Long bookingId, String paymentId, BigDecimal amount) {
+        Booking booking = findForUpdate(bookingId).orElse(null);
+        if (booking == null) {
+            log.warn("Payment success {} for unknown booking {}, ignoring", paymentId, bookingId);
+            return false;
+        }
+        if (booking.getStatus() == BookingStatus.PENDING) {
+            confirm(booking, paymentId, amount);
+            return false;
+        }
+        if (booking.getStatus() == BookingStatus.CONFIRMED || paymentId.equals(booking.getPaymentId())) {
+            log.info("Booking {} already {}, ignoring payment success {}", bookingId, booking.getStatus(), paymentId);
+            return false;
+        }
+        log.warn("Payment {} succeeded after booking {} was {}, refunding it", paymentId, bookingId, booking.getStatus());
+        return true;
+    }
+
+    /**
+     * Saga step for payment-failed: PENDING -> FAILED (cart seats are returned after commit).
+     */
+    public void applyPaymentFailure(Long bookingId) {
+        Booking booking = findForUpdate(bookingId).orElse(null);
+        if (booking == null || booking.getStatus() != BookingStatus.PENDING) {
+            log.info("Booking {} is not pending, ignoring payment failure", bookingId);
+            return;
+        }
+        fail(booking);
+    }
+
+    /**
+     * Saga step for payment-refund: CONFIRMED -> CANCELLED (emits booking-cancelled, cart seats
+     * are returned after commit).
+     *
+     * Topics are not ordered against each other, so a refund can overtake its payment-success.
+     * The booking is then cancelled straight from PENDING and keeps the refunded payment's ID,
+     * which makes the late success a no-op instead of confirming a refunded booking.
+     */
+    public void applyPaymentRefund(Long bookingId, String paymentId) {
+        Booking booking = findForUpdate(bookingId).orElse(null);
+        if (booking == null) {
+            log.warn("Refund for unknown booking {}, ignoring", bookingId);
+            return;
+        }
+        if (booking.getStatus() == BookingStatus.PENDING) {
+            log.info("Refund {} for booking {} arrived before its confirmation, cancelling", paymentId, bookingId);
+            booking.setPaymentId(paymentId);
+            cancel(booking);
+            return;
+        }
+        if (booking.getStatus() != BookingStatus.CONFIRMED) {
+            log.info("Booking {} already {}, ignoring refund", bookingId, booking.getStatus());
+            return;
+        }
+        cancel(booking);
+    }
+
+    /**
+     * Cancel booking (a repeated cancel returns the cancelled booking unchanged)
+     */
+    public BookingResponse cancelBooking(Long bookingId) {
+        Booking booking = findForUpdate(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            log.info("Booking {} already cancelled", bookingId);
+            return mapToResponse(booking);
+        }
+        return mapToResponse(cancel(booking));
+    }
 
-        booking.setStatus(BookingStatus.CONFIRMED.toString());
+    /**
+     * Mark booking as failed (bookings already failed or cancelled are returned unchanged)
+     */
+    public BookingResponse failBooking(Long bookingId) {
+        Booking booking = findForUpdate(bookingId)
+                .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
+        if (booking.getStatus() == BookingStatus.FAILED || booking.getStatus() == BookingStatus.CANCELLED) {
+            log.info("Booking {} already {}", bookingId, booking.getStatus());
+            return mapToResponse(booking);
+        }
+        return mapToResponse(fail(booking));
+    }
+
+    // Transitions below run on a row locked by findForUpdate, so the status they start from
+    // (and the stats deltas derived from it) cannot change underneath them
+
+    private Booking confirm(Booking booking, String paymentId, BigDecimal paidAmount) {
+        BookingStatus previousStatus = booking.getStatus();
+        booking.setStatus(BookingStatus.CONFIRMED);
         booking.setPaymentId(paymentId);
+        if (booking.getAmount() == null) {
+            booking.setAmount(paidAmount);
+        }
 
         Booking updatedBooking = bookingRepository.save(booking);
-        log.info("Booking {} confirmed with payment ID: {}", bookingId, paymentId);
+        bookingStatsService.recordTransition(updatedBooking, previousStatus);
+        log.info("Booking {} confirmed with payment ID: {}", updatedBooking.getId(), paymentId);
 
         // Emit Kafka event
         BookingMessage message = BookingMessage.builder()
                 .id(updatedBooking.getId())
                 .userId(updatedBooking.getUserId())
                 .eventId(updatedBooking.getEventId())
-                .status(updatedBooking.getStatus())
+                .status(updatedBooking.getStatus().name())
                 .seats(updatedBooking.getSeats())
                 .paymentId(updatedBooking.getPaymentId())
                 .bookingTime(updatedBooking.getBookingTime())
                 .build();
         kafkaProducerService.sendBookingConfirmed(message);
 
-        return mapToResponse(updatedBooking);
+        return updatedBooking;
     }
 
-    /**
-     * Cancel booking
-     */
-    public BookingResponse cancelBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
-
-        booking.setStatus(BookingStatus.CANCELLED.toString());
+    private Booking cancel(Booking booking) {
+        BookingStatus previousStatus = booking.getStatus();
+        booking.setStatus(BookingStatus.CANCELLED);
+        if (previousStatus == BookingStatus.PENDING || previousStatus == BookingStatus.CONFIRMED) {
+            purchaseLimiter.releaseForTransaction(booking.getUserId(), booking.getEventId(), booking.getSeats());
+            releaseTierSeatsAfterCommit(booking);
+        }
         Booking updatedBooking = bookingRepository.save(booking);
-        log.info("Booking {} cancelled", bookingId);
+        bookingStatsService.recordTransition(updatedBooking, previousStatus);
+        log.info("Booking {} cancelled", updatedBooking.getId());
 
         // Emit Kafka event
         BookingMessage message = BookingMessage.builder()
                 .id(updatedBooking.getId())
                 .userId(updatedBooking.getUserId())
                 .eventId(updatedBooking.getEventId())
-                .status(updatedBooking.getStatus())
+                .status(updatedBooking.getStatus().name())
                 .seats(updatedBooking.getSeats())
                 .bookingTime(updatedBooking.getBookingTime())
                 .build();
         kafkaProducerService.sendBookingCancelled(message);
 
-        return mapToResponse(updatedBooking);
+        return updatedBooking;
+    }
+
+    private Booking fail(Booking booking) {
+        BookingStatus previousStatus = booking.getStatus();
+        booking.setStatus(BookingStatus.FAILED);
+        if (previousStatus == BookingStatus.PENDING || previousStatus == BookingStatus.CONFIRMED) {
+            purchaseLimiter.releaseForTransaction(booking.getUserId(), booking.getEventId(), booking.getSeats());
+            releaseTierSeatsAfterCommit(booking);
+        }
+        Booking updatedBooking = bookingRepository.save(booking);
+        bookingStatsService.recordTransition(updatedBooking, previousStatus);
+        log.info("Booking {} marked as failed", updatedBooking.getId());
+
+        return updatedBooking;
     }
 
     /**
-     * Mark booking as failed
+     * Load and row-lock (SELECT ... FOR UPDATE) a booking that is about to change state, so
+     * concurrent transitions (REST calls, saga steps from different topics) run one after the
+     * other and each sees the status the previous one committed.
+     *
+     * Archived bookings (older than the hot retention) can still be confirmed, cancelled or
+     * refunded, so they are moved back to the hot table first; the archive row is locked for
+     * the move, and the archiver moves them out again once they are old and settled.
      */
-    public BookingResponse failBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new RuntimeException("Booking not found with ID: " + bookingId));
+    private Optional<Booking> findForUpdate(Long bookingId) {
+        Optional<Booking> hot = bookingRepository.findByIdForUpdate(bookingId);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        if (archivedBookingRepository.findByIdForUpdate(bookingId).isEmpty()) {
+            // Possibly restored by a concurrent transition that held the archive lock
+            return bookingRepository.findByIdForUpdate(bookingId);
+        }
+        archivedBookingRepository.copyToHot(bookingId);
+        archivedBookingRepository.deleteArchived(bookingId);
+        log.info("Restored archived booking {} to change its state", bookingId);
+        return bookingRepository.findByIdForUpdate(bookingId);
+    }
 
-        booking.setStatus(BookingStatus.FAILED.toString());
-        Booking updatedBooking = bookingRepository.save(booking);
-        log.info("Booking {} marked as failed", bookingId);
+    // Cart bookings hold seats in event-service; once the cancellation is committed, queue the
+    // release (SeatReleaseListener retries it and dead-letters it if event-service keeps failing)
+    private void releaseTierSeatsAfterCommit(Booking booking) {
+        if (booking.getReservationId() == null) {
+            return;
+        }
+        BookingMessage release = BookingMessage.builder()
+                .id(booking.getId())
+                .userId(booking.getUserId())
+                .eventId(booking.getEventId())
+                .seats(booking.getSeats())
+                .reservationId(booking.getReservationId())
+                .items(bookingItemRepository.findByBookingId(booking.getId()).stream()
+                        .map(this::mapToItemDto)
+                        .collect(Collectors.toList()))
+                .build();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                kafkaProducerService.sendSeatRelease(release);
+            }
+        });
+    }
 
-        return mapToResponse(updatedBooking);
+    private Booking fromArchive(ArchivedBooking archived) {
+        return Booking.builder()
+                .id(archived.getId())
+                .userId(archived.getUserId())
+                .eventId(archived.getEventId())
+                .status(archived.getStatus())
+                .seats(archived.getSeats())
+                .paymentId(archived.getPaymentId())
+                .txnRef(archived.getTxnRef())
+                .reservationId(archived.getReservationId())
+                .amount(archived.getAmount())
+                .bookingTime(archived.getBookingTime())
+                .build();
+    }
+
+    private BookingItemDto mapToItemDto(BookingItem item) {
+        return BookingItemDto.builder()
+                .tierId(item.getTierId())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .build();
     }
 
     /**
@@ -159,7 +597,7 @@ public class BookingService {
                 .id(booking.getId())
                 .userId(booking.getUserId())
                 .eventId(booking.getEventId())
-                .status(booking.getStatus())
+                .status(booking.getStatus().name())
                 .seats(booking.getSeats())
                 .paymentId(booking.getPaymentId())
                 .txnRef(booking.getTxnRef())
@@ -0,0 +1,164 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.EventBookingStatsResponse;
+import com.goevently.bookingservice.entity.Booking;
+import com.goevently.bookingservice.entity.BookingStatus;
+import com.goevently.bookingservice.entity.EventBookingStats;
+import com.goevently.bookingservice.repository.ArchivedBookingRepository;
+import com.goevently.bookingservice.repository.BookingRepository;
+import com.goevently.bookingservice.repository.EventBookingStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the per-event booking aggregate (seats by status, confirmed revenue).
+ *
+ * Every booking transition adds its delta inside the same transaction as the booking
+ * change, so the aggregate commits or rolls back with it. Revenue is the summed amount
+ * of confirmed bookings (tier lines for cart bookings, the captured payment otherwise).
+ */
+@Service
+@Slf4j
+@Transactional
+public class BookingStatsService {
+
+    @Autowired
+    private EventBookingStatsRepository statsRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    /**
+     * Count a newly created booking
+     */
+    public void recordCreated(Booking booking) {
+        Map<BookingStatus, Long> seats = new EnumMap<>(BookingStatus.class);
+        seats.put(booking.getStatus(), (long) booking.getSeats());
+        apply(booking.getEventId(), seats, BigDecimal.ZERO);
+    }
+
+    /**
+     * Move a booking's seats from its previous status to its current one
+     */
+    public void recordTransition(Booking booking, BookingStatus from) {
+        BookingStatus to = booking.getStatus();
+        if (from == to) {
+            return;
+        }
+
+        Map<BookingStatus, Long> seats = new EnumMap<>(BookingStatus.class);
+        seats.put(from, -(long) booking.getSeats());
+        seats.put(to, (long) booking.getSeats());
+
+        BigDecimal revenue = BigDecimal.ZERO;
+        if (from == BookingStatus.CONFIRMED || to == BookingStatus.CONFIRMED) {
+            BigDecimal value = booking.getAmount() != null ? booking.getAmount() : BigDecimal.ZERO;
+            revenue = to == BookingStatus.CONFIRMED ? value : value.negate();
+        }
+        apply(booking.getEventId(), seats, revenue);
+    }
+
+    /**
+     * Current aggregate for an event (single primary-key read)
+     */
+    @Transactional(readOnly = true)
+    public EventBookingStatsResponse getStats(Long eventId) {
+        return statsRepository.findById(eventId)
+                .map(this::mapToResponse)
+                .orElseGet(() -> EventBookingStatsResponse.builder()
+                        .eventId(eventId)
+                        .pendingSeats(0L)
+                        .confirmedSeats(0L)
+                        .failedSeats(0L)
+                        .cancelledSeats(0L)
+                        .revenue(BigDecimal.ZERO)
+                        .build());
+    }
+
+    /**
+     * Recompute an event's aggregate from the raw bookings and correct any drift.
+     * The aggregate row is locked first, so transitions wait rather than interleave.
+     *
+     * @return true if the stored aggregate had drifted
+     */
+    public boolean reconcile(Long eventId) {
+        EventBookingStats stats = statsRepository.findForUpdate(eventId).orElse(null);
+        if (stats == null) {
+            return false;
+        }
+
+        Map<BookingStatus, Long> raw = new EnumMap<>(BookingStatus.class);
+        // Archived bookings still count towards the event's totals
+        List<Object[]> rows = new ArrayList<>(bookingRepository.sumSeatsByStatus(eventId));
+        rows.addAll(archivedBookingRepository.sumSeatsByStatus(eventId));
+        for (Object[] row : rows) {
+            raw.merge((BookingStatus) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        BigDecimal revenue = bookingRepository.sumAmountByEventIdAndStatus(eventId, BookingStatus.CONFIRMED)
+                .add(archivedBookingRepository.sumAmountByEventIdAndStatus(eventId, BookingStatus.CONFIRMED));
+
+        EventBookingStats expected = EventBookingStats.builder()
+                .eventId(eventId)
+                .pendingSeats(raw.getOrDefault(BookingStatus.PENDING, 0L))
+                .confirmedSeats(raw.getOrDefault(BookingStatus.CONFIRMED, 0L))
+                .failedSeats(raw.getOrDefault(BookingStatus.FAILED, 0L))
+                .cancelledSeats(raw.getOrDefault(BookingStatus.CANCELLED, 0L))
+                .revenue(revenue)
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+
+        boolean drifted = !expected.getPendingSeats().equals(stats.getPendingSeats())
+                || !expected.getConfirmedSeats().equals(stats.getConfirmedSeats())
+                || !expected.getFailedSeats().equals(stats.getFailedSeats())
+                || !expected.getCancelledSeats().equals(stats.getCancelledSeats())
+                || expected.getRevenue().compareTo(stats.getRevenue()) != 0;
+
+        if (drifted) {
+            log.warn("Booking stats for event {} drifted: stored {} but bookings give {}; correcting", eventId, stats, expected);
+            expected.setUpdatedAt(LocalDateTime.now());
+            statsRepository.save(expected);
+        }
+        return drifted;
+    }
+
+    /**
+     * Events whose aggregate changed since the given time
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getEventsUpdatedSince(LocalDateTime since) {
+        return statsRepository.findEventIdsUpdatedSince(since);
+    }
+
+    private void apply(Long eventId, Map<BookingStatus, Long> seats, BigDecimal revenue) {
+        statsRepository.applyDelta(eventId,
+                seats.getOrDefault(BookingStatus.PENDING, 0L),
+                seats.getOrDefault(BookingStatus.CONFIRMED, 0L),
+                seats.getOrDefault(BookingStatus.FAILED, 0L),
+                seats.getOrDefault(BookingStatus.CANCELLED, 0L),
+                revenue);
+    }
+
+    private EventBookingStatsResponse mapToResponse(EventBookingStats stats) {
+        return EventBookingStatsResponse.builder()
+                .eventId(stats.getEventId())
+                .pendingSeats(stats.getPendingSeats())
+                .confirmedSeats(stats.getConfirmedSeats())
+                .failedSeats(stats.getFailedSeats())
+                .cancelledSeats(stats.getCancelledSeats())
+                .revenue(stats.getRevenue())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
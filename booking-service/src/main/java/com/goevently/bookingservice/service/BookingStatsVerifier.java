@@ -0,0 +1,54 @@
+package com.goevently.bookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically reconciles the per-event booking aggregates against the raw bookings.
+ * Each run only checks events whose aggregate changed since the previous run (plus a
+ * safety overlap), so the cost follows write activity rather than table size.
+ */
+@Component
+@Slf4j
+public class BookingStatsVerifier {
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Value("${app.stats.verify-lookback-ms:86400000}")
+    private long initialLookbackMs;
+
+    @Value("${app.stats.verify-interval-ms:300000}")
+    private long intervalMs;
+
+    private LocalDateTime lastRunStart;
+
+    @Scheduled(fixedDelayString = "${app.stats.verify-interval-ms:300000}",
+            initialDelayString = "${app.stats.verify-interval-ms:300000}")
+    public void verify() {
+        LocalDateTime runStart = LocalDateTime.now();
+        LocalDateTime since = lastRunStart != null
+                ? lastRunStart.minusNanos(intervalMs * 1_000_000L)
+                : runStart.minusNanos(initialLookbackMs * 1_000_000L);
+
+        try {
+            List<Long> eventIds = bookingStatsService.getEventsUpdatedSince(since);
+            int corrected = 0;
+            for (Long eventId : eventIds) {
+                if (bookingStatsService.reconcile(eventId)) {
+                    corrected++;
+                }
+            }
+            lastRunStart = runStart;
+            log.info("Booking stats verified for {} events, {} corrected", eventIds.size(), corrected);
+        } catch (Exception e) {
+            log.error("Booking stats verification failed", e);
+        }
+    }
+}
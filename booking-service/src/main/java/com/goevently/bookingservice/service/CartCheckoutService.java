@@ -0,0 +1,93 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.BookingItemDto;
+import com.goevently.bookingservice.dto.BookingMessage;
+import com.goevently.bookingservice.dto.BookingResponse;
+import com.goevently.bookingservice.dto.CartBookingRequest;
+import com.goevently.bookingservice.dto.TicketTierInfo;
+import com.goevently.bookingservice.exception.InventoryUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-tier checkout: several ticket tiers of one event become a single booking.
+ *
+ * Seats are reserved first in one all-or-nothing call to event-service under a fresh
+ * reservation ID, then the booking and its lines are stored in one local transaction.
+ * If storing fails, or the reserve call ends without an answer (e.g. a read timeout after
+ * event-service committed), the reservation ID is released, so a checkout never leaves
+ * seats held without a booking. The user's seat cap is checked before reserving and
+ * enforced again in the booking transaction.
+ */
+@Service
+@Slf4j
+public class CartCheckoutService {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TicketInventoryClient ticketInventoryClient;
+
+    @Autowired
+    private PurchaseLimiter purchaseLimiter;
+
+    @Autowired
+    private KafkaProducerService kafkaProducerService;
+
+    public BookingResponse checkout(Long userId, CartBookingRequest request) {
+        log.info("Cart checkout for user: {} for event: {} with {} tiers", userId, request.getEventId(), request.getItems().size());
+
+        int seats = request.getItems().stream().mapToInt(BookingItemDto::getQuantity).sum();
+        purchaseLimiter.countAttempt(userId, request.getEventId());
+        purchaseLimiter.checkSeats(userId, request.getEventId(), seats);
+
+        String reservationId = UUID.randomUUID().toString();
+        List<TicketTierInfo> tiers;
+        try {
+            tiers = ticketInventoryClient.reserve(reservationId, request.getEventId(), request.getItems());
+        } catch (InventoryUnavailableException e) {
+            releaseSeats(reservationId, request);
+            throw e;
+        }
+        Map<Long, TicketTierInfo> tiersById = tiers.stream()
+                .collect(Collectors.toMap(TicketTierInfo::getId, tier -> tier));
+
+        List<BookingItemDto> pricedItems = request.getItems().stream()
+                .map(item -> BookingItemDto.builder()
+                        .tierId(item.getTierId())
+                        .quantity(item.getQuantity())
+                        .unitPrice(tiersById.containsKey(item.getTierId()) ? tiersById.get(item.getTierId()).getPrice() : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        try {
+            return bookingService.createCartBooking(userId, request.getEventId(), reservationId, pricedItems);
+        } catch (RuntimeException e) {
+            log.error("Storing cart booking failed for user: {}, releasing reserved seats", userId, e);
+            releaseSeats(reservationId, request);
+            throw e;
+        }
+    }
+
+    private void releaseSeats(String reservationId, CartBookingRequest request) {
+        try {
+            ticketInventoryClient.release(reservationId, request.getEventId(), request.getItems());
+        } catch (RuntimeException releaseError) {
+            // Hand it to SeatReleaseListener, which keeps retrying (release is idempotent per reservation)
+            log.warn("Releasing reservation {} for event {} failed, queueing it: {}",
+                    reservationId, request.getEventId(), releaseError.getMessage());
+            kafkaProducerService.sendSeatRelease(BookingMessage.builder()
+                    .eventId(request.getEventId())
+                    .reservationId(reservationId)
+                    .items(request.getItems())
+                    .build());
+        }
+    }
+}
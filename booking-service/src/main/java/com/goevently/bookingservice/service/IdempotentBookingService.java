@@ -0,0 +1,137 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.BookingRequest;
+import com.goevently.bookingservice.dto.BookingResponse;
+import com.goevently.bookingservice.exception.IdempotencyConflictException;
+import com.goevently.bookingservice.exception.IdempotencyKeyMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Makes POST /api/bookings safe to retry with an Idempotency-Key header.
+ *
+ * Keys are scoped per user. A replay within the TTL is answered from memory without
+ * touching the database. A duplicate arriving while the first request is still running
+ * gets 409 (retry later), and reusing a key with a different body gets 422. The
+ * (user_id, idempotency_key) unique constraint is the backstop across instances and
+ * restarts: a losing insert returns the stored booking.
+ */
+@Service
+@Slf4j
+public class IdempotentBookingService {
+
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final BookingService bookingService;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${app.idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    @Autowired
+    public IdempotentBookingService(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    /**
+     * Create a booking, or return the booking already created with this key
+     *
+     * @param userId the authenticated user
+     * @param request the booking request
+     * @param idempotencyKey the client-supplied key
+     * @return the booking created by the first request with this key
+     * @throws IdempotencyKeyMismatchException if the key was used with a different request
+     * @throws IdempotencyConflictException if the first request with this key is still in flight
+     */
+    public BookingResponse createBooking(Long userId, BookingRequest request, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String scopedKey = userId + ":" + idempotencyKey;
+        long now = System.currentTimeMillis();
+
+        Entry candidate = new Entry(new CompletableFuture<>(), now + ttlMs, request.getEventId(), request.getSeats());
+        Entry entry = entries.compute(scopedKey, (key, existing) ->
+                existing != null && existing.expiresAt > now ? existing : candidate);
+
+        if (entry != candidate) {
+            if (!entry.matches(request)) {
+                throw new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request");
+            }
+            if (!entry.result.isDone()) {
+                throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+            }
+            log.info("Replaying booking for user: {} with idempotency key: {}", userId, idempotencyKey);
+            return replay(entry.result);
+        }
+
+        try {
+            BookingResponse response = createOrFetch(userId, request, idempotencyKey);
+            candidate.result.complete(response);
+            evictExpiredIfFull(now);
+            return response;
+        } catch (RuntimeException e) {
+            // Failed attempts are not remembered; the client may retry with the same key
+            entries.remove(scopedKey, candidate);
+            candidate.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private BookingResponse createOrFetch(Long userId, BookingRequest request, String idempotencyKey) {
+        try {
+            return bookingService.createBooking(userId, request, idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance (or an earlier process) already stored this key
+            log.info("Idempotency key {} already stored for user: {}, returning existing booking", idempotencyKey, userId);
+            BookingResponse existing = bookingService.getBookingByIdempotencyKey(userId, idempotencyKey);
+            if (!Objects.equals(existing.getEventId(), request.getEventId())
+                    || !Objects.equals(existing.getSeats(), request.getSeats())) {
+                throw new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request");
+            }
+            return existing;
+        }
+    }
+
+    private BookingResponse replay(CompletableFuture<BookingResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Failed attempts are removed before completing, so this only races with that removal
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void evictExpiredIfFull(long now) {
+        if (entries.size() > maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now && entry.result.isDone());
+        }
+        if (entries.size() > maxEntries) {
+            // Still full of live keys: drop completed ones, replays then fall back to the unique constraint
+            entries.values().removeIf(entry -> entry.result.isDone());
+        }
+    }
+
+    private record Entry(CompletableFuture<BookingResponse> result, long expiresAt, Long eventId, Integer seats) {
+
+        boolean matches(BookingRequest request) {
+            return Objects.equals(eventId, request.getEventId()) && Objects.equals(seats, request.getSeats());
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class KafkaProducerService {
 
+    public static final String SEAT_RELEASE_TOPIC = "booking-seat-release";
+
     @Autowired
     private KafkaTemplate<String, BookingMessage> kafkaTemplate;
 
@@ -27,4 +29,9 @@ public class KafkaProducerService {
         log.info("Sending booking-cancelled message to Kafka: {}", booking);
         kafkaTemplate.send("booking-cancelled", String.valueOf(booking.getId()), booking);
     }
+
+    public void sendSeatRelease(BookingMessage booking) {
+        log.info("Sending seat release for booking {} (reservation {})", booking.getId(), booking.getReservationId());
+        kafkaTemplate.send(SEAT_RELEASE_TOPIC, booking.getReservationId(), booking);
+    }
 }
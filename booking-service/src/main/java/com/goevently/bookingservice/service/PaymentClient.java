@@ -0,0 +1,42 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Client for payment-service calls made by the booking saga
+ */
+@Service
+@Slf4j
+public class PaymentClient {
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Value("${app.payment-service.url:http://payment-service}")
+    private String paymentServiceUrl;
+
+    /**
+     * Refund a captured payment; payment-service treats a repeated refund as a no-op
+     *
+     * @throws org.springframework.web.client.RestClientException if payment-service did not accept it
+     */
+    public void refund(String paymentId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.getServiceToken());
+
+        restTemplate.exchange(paymentServiceUrl + "/api/payments/" + paymentId + "/refund",
+                HttpMethod.POST, new HttpEntity<>(headers), Void.class);
+        log.info("Requested refund of payment: {}", paymentId);
+    }
+}
@@ -0,0 +1,227 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.entity.BookingStatus;
+import com.goevently.bookingservice.entity.PurchaseAllowance;
+import com.goevently.bookingservice.exception.PurchaseLimitException;
+import com.goevently.bookingservice.repository.PurchaseAllowanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-(user, event) purchase limits: a cap on booking attempts per window and a cap on seats
+ * held (pending or confirmed).
+ *
+ * Each instance keeps an in-memory view per (user, event) in front of the shared state: a
+ * sliding window of its own attempts and the last seats-held count it read, trusted for
+ * local-view-ms. A user already over either cap is turned away from memory, without a Redis
+ * or database round trip. The view never admits anything on its own; it can only reject
+ * early, and a stale view errs towards a short false rejection after another instance freed
+ * seats.
+ *
+ * The binding checks are shared by all instances. Attempts are counted in Redis (skipped if
+ * Redis is unreachable). Seats held live in purchase_allowances and change only by a
+ * conditional UPDATE in the transaction that creates, fails or cancels the booking, so
+ * concurrent bookings queue on the row lock. The row is seeded on first use from the held
+ * bookings in both bookings and bookings_archive. It stays in step with them as long as every
+ * status change goes through BookingService, which applies each transition once under the
+ * booking's row lock.
+ */
+@Service
+@Slf4j
+public class PurchaseLimiter {
+
+    private static final List<Integer> HELD_STATUS_CODES =
+            List.of(BookingStatus.PENDING.getCode(), BookingStatus.CONFIRMED.getCode());
+
+    @Autowired
+    private PurchaseAllowanceRepository purchaseAllowanceRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${app.purchase-limits.max-seats-per-user:10}")
+    private int maxSeatsPerUser;
+
+    @Value("${app.purchase-limits.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${app.purchase-limits.max-attempts-per-window:5}")
+    private int maxAttemptsPerWindow;
+
+    @Value("${app.purchase-limits.local-view-ms:2000}")
+    private long localViewMs;
+
+    private final Map<Key, LocalView> localViews = new ConcurrentHashMap<>();
+
+    /**
+     * Count one booking attempt against the user's window for the event
+     *
+     * @throws PurchaseLimitException if the user is attempting too fast
+     */
+    public void countAttempt(Long userId, Long eventId) {
+        LocalView view = localView(userId, eventId);
+        long now = System.currentTimeMillis();
+        synchronized (view) {
+            while (!view.attempts.isEmpty() && view.attempts.peekFirst() <= now - windowMs) {
+                view.attempts.pollFirst();
+            }
+            if (view.attempts.size() >= maxAttemptsPerWindow) {
+                throw tooManyAttempts();
+            }
+            view.attempts.addLast(now);
+        }
+
+        String key = "purchase-attempts:{" + userId + ":" + eventId + "}";
+        Long attempts;
+        try {
+            attempts = redisTemplate.opsForValue().increment(key);
+            if (attempts != null && attempts == 1) {
+                redisTemplate.expire(key, Duration.ofMillis(windowMs));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Attempt counter unavailable, skipping attempt limit: {}", e.getMessage());
+            return;
+        }
+        if (attempts != null && attempts > maxAttemptsPerWindow) {
+            throw tooManyAttempts();
+        }
+    }
+
+    /**
+     * Fail fast before reserving inventory; not binding, acquireForTransaction decides
+     *
+     * @throws PurchaseLimitException if the seats would already exceed the cap
+     */
+    public void checkSeats(Long userId, Long eventId, int seats) {
+        LocalView view = localView(userId, eventId);
+        int held = view.seatsHeld(System.currentTimeMillis(), localViewMs);
+        if (held < 0) {
+            held = purchaseAllowanceRepository.findByUserIdAndEventId(userId, eventId)
+                    .map(PurchaseAllowance::getSeatsHeld)
+                    .orElse(0);
+            view.remember(held, System.currentTimeMillis());
+        }
+        if (held + seats > maxSeatsPerUser) {
+            throw limitExceeded(held);
+        }
+    }
+
+    /**
+     * Take seats against the user's allowance inside the booking's transaction; they are given
+     * back automatically if it does not commit
+     *
+     * @throws PurchaseLimitException if the user would exceed the seat cap
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquireForTransaction(Long userId, Long eventId, int seats) {
+        LocalView view = localView(userId, eventId);
+        int known = view.seatsHeld(System.currentTimeMillis(), localViewMs);
+        if (known >= 0 && known + seats > maxSeatsPerUser) {
+            throw limitExceeded(known);
+        }
+
+        int updated = purchaseAllowanceRepository.addSeatsWithinCap(userId, eventId, seats, maxSeatsPerUser);
+        if (updated == 0) {
+            // No row yet, or over the cap; a concurrent first insert makes ours a no-op, so retry either way
+            purchaseAllowanceRepository.insertIfAbsent(userId, eventId, HELD_STATUS_CODES);
+            updated = purchaseAllowanceRepository.addSeatsWithinCap(userId, eventId, seats, maxSeatsPerUser);
+        }
+        if (updated == 0) {
+            int held = purchaseAllowanceRepository.findByUserIdAndEventId(userId, eventId)
+                    .map(PurchaseAllowance::getSeatsHeld)
+                    .orElse(0);
+            view.remember(held, System.currentTimeMillis());
+            throw limitExceeded(held);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                view.add(seats);
+            }
+        });
+    }
+
+    /**
+     * Give seats back inside the transaction that moves the booking to FAILED or CANCELLED
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseForTransaction(Long userId, Long eventId, int seats) {
+        purchaseAllowanceRepository.removeSeats(userId, eventId, seats);
+        // Forgetting can only make the view less strict, so do it now rather than after commit
+        LocalView view = localViews.get(new Key(userId, eventId));
+        if (view != null) {
+            view.forget();
+        }
+    }
+
+    /**
+     * Drop views with no attempts in the window and no count worth trusting
+     */
+    @Scheduled(fixedDelayString = "${app.purchase-limits.window-ms:60000}")
+    public void evictIdleViews() {
+        long cutoff = System.currentTimeMillis() - Math.max(windowMs, localViewMs);
+        localViews.values().removeIf(view -> view.lastAccess < cutoff);
+    }
+
+    private LocalView localView(Long userId, Long eventId) {
+        LocalView view = localViews.computeIfAbsent(new Key(userId, eventId), key -> new LocalView());
+        view.lastAccess = System.currentTimeMillis();
+        return view;
+    }
+
+    private PurchaseLimitException tooManyAttempts() {
+        return new PurchaseLimitException("Too many booking attempts for this event, please wait and retry");
+    }
+
+    private PurchaseLimitException limitExceeded(int held) {
+        return new PurchaseLimitException("Booking limit is " + maxSeatsPerUser
+                + " seats per user for this event; " + held + " already held");
+    }
+
+    private record Key(Long userId, Long eventId) {
+    }
+
+    private static final class LocalView {
+        private final ArrayDeque<Long> attempts = new ArrayDeque<>();
+        private int seatsHeld = -1;
+        private long seatsReadAt;
+        private volatile long lastAccess;
+
+        /**
+         * The remembered count if still fresh, otherwise -1
+         */
+        synchronized int seatsHeld(long now, long maxAgeMs) {
+            return seatsHeld >= 0 && now - seatsReadAt < maxAgeMs ? seatsHeld : -1;
+        }
+
+        synchronized void remember(int held, long now) {
+            seatsHeld = held;
+            seatsReadAt = now;
+        }
+
+        synchronized void add(int seats) {
+            if (seatsHeld >= 0) {
+                seatsHeld += seats;
+            }
+        }
+
+        synchronized void forget() {
+            seatsHeld = -1;
+        }
+    }
+}
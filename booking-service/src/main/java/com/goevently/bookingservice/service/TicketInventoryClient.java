@@ -0,0 +1,91 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.ApiResponse;
+import com.goevently.bookingservice.dto.BookingItemDto;
+import com.goevently.bookingservice.dto.TicketTierInfo;
+import com.goevently.bookingservice.exception.InventoryUnavailableException;
+import com.goevently.bookingservice.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for event-service's multi-tier seat reservation endpoints.
+ *
+ * These endpoints only accept booking-service's own SERVICE token, never a forwarded user token.
+ * Every call carries a reservation ID, so reserve and release can be retried without double-counting.
+ */
+@Service
+@Slf4j
+public class TicketInventoryClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<TicketTierInfo>>> TIER_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Value("${app.event-service.url:http://event-service}")
+    private String eventServiceUrl;
+
+    /**
+     * Take seats from every tier in one call; event-service applies all lines or none
+     *
+     * @return the reserved tiers with their current prices
+     * @throws InventoryUnavailableException if the outcome is unknown (release the reservation ID)
+     */
+    public List<TicketTierInfo> reserve(String reservationId, Long eventId, List<BookingItemDto> items) {
+        return call("/api/ticket-tiers/reserve", reservationId, eventId, items);
+    }
+
+    /**
+     * Return a reservation's seats to every tier in one call; releasing an ID twice is a no-op
+     */
+    public void release(String reservationId, Long eventId, List<BookingItemDto> items) {
+        call("/api/ticket-tiers/release", reservationId, eventId, items);
+    }
+
+    private List<TicketTierInfo> call(String path, String reservationId, Long eventId, List<BookingItemDto> items) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.getServiceToken());
+
+        Map<String, Object> body = Map.of(
+                "reservationId", reservationId,
+                "eventId", eventId,
+                "items", items.stream()
+                        .map(item -> Map.of("tierId", item.getTierId(), "quantity", item.getQuantity()))
+                        .toList());
+
+        try {
+            ApiResponse<List<TicketTierInfo>> response = restTemplate.exchange(
+                    eventServiceUrl + path, HttpMethod.POST, new HttpEntity<>(body, headers), TIER_LIST).getBody();
+            return response != null && response.getData() != null ? response.getData() : List.of();
+        } catch (RestClientResponseException e) {
+            if (e.getStatusCode().is5xxServerError()) {
+                log.error("Event service call {} failed for event {}: {}", path, eventId, e.getStatusText());
+                throw new InventoryUnavailableException("Ticket inventory is unavailable, please retry", e);
+            }
+            ApiResponse<?> error = e.getResponseBodyAs(ApiResponse.class);
+            String message = error != null && error.getMessage() != null ? error.getMessage() : e.getStatusText();
+            log.warn("Event service rejected {} for event {}: {}", path, eventId, message);
+            throw new RuntimeException(message, e);
+        } catch (RestClientException e) {
+            log.error("Event service call {} failed for event {}: {}", path, eventId, e.getMessage());
+            throw new InventoryUnavailableException("Ticket inventory is unavailable, please retry", e);
+        }
+    }
+}
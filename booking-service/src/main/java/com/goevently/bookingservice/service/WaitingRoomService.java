@@ -0,0 +1,342 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.WaitingRoomStatus;
+import com.goevently.bookingservice.exception.AdmissionRequiredException;
+import com.goevently.bookingservice.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual waiting room for high-demand on-sales.
+ *
+ * When a room is open for an event, users join and get a signed queue token carrying their
+ * ticket number. A background ticker admits tickets at the room's configured rate; polling
+ * only verifies the queue token and compares it with the admitted counter, so it never
+ * touches the database. Once admitted, the poll returns a short-lived signed admission token
+ * that createBooking requires for that event.
+ *
+ * Room state (counters and the user -> ticket map) lives in Redis, so every instance gates
+ * the same queue. Each update is one Lua script on the Redis clock; every instance runs the
+ * ticker, but admissions are computed from the time since the last tick, so more instances
+ * do not admit faster. An admission is single-use: booking consumes the user's ticket, and
+ * booking again means joining the back of the queue. Events without an open room are not gated.
+ */
+@Service
+@Slf4j
+public class WaitingRoomService {
+
+    private static final String CLAIM_TYPE = "typ";
+    private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_EVENT_ID = "eventId";
+    private static final String CLAIM_TICKET = "ticket";
+    private static final String TYPE_QUEUE = "queue";
+    private static final String TYPE_ADMISSION = "admission";
+
+    private static final String ROOMS_KEY = "waiting-room:rooms";
+
+    private static final RedisScript<Long> OPEN_SCRIPT = RedisScript.of("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            redis.call('HSETNX', KEYS[1], 'issued', 0)
+            redis.call('HSETNX', KEYS[1], 'admitted', 0)
+            redis.call('HSETNX', KEYS[1], 'credit', 0)
+            redis.call('HSETNX', KEYS[1], 'last', now)
+            redis.call('HSET', KEYS[1], 'rate', ARGV[1])
+            return 1
+            """, Long.class);
+
+    // Returns {ticket, admittedUpTo, admitPerSecond}; ticket -1 = no room, -2 = room full
+    private static final RedisScript<List> JOIN_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return {-1, 0, 0}
+            end
+            local ticket = redis.call('HGET', KEYS[2], ARGV[1])
+            if not ticket then
+              if redis.call('HLEN', KEYS[2]) >= tonumber(ARGV[2]) then
+                return {-2, 0, 0}
+              end
+              ticket = redis.call('HINCRBY', KEYS[1], 'issued', 1)
+              redis.call('HSET', KEYS[2], ARGV[1], ticket)
+            end
+            local state = redis.call('HMGET', KEYS[1], 'admitted', 'rate')
+            return {tonumber(ticket), tonumber(state[1]), tonumber(state[2])}
+            """, List.class);
+
+    private static final RedisScript<Long> TICK_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local s = redis.call('HMGET', KEYS[1], 'rate', 'issued', 'admitted', 'credit', 'last')
+            local elapsed = now - tonumber(s[5])
+            if elapsed <= 0 then
+              return 0
+            end
+            local issued = tonumber(s[2])
+            local admitted = tonumber(s[3])
+            local credit = tonumber(s[4]) + tonumber(s[1]) * elapsed / 1000
+            local admit = math.floor(credit)
+            credit = credit - admit
+            -- Unused capacity is not banked: a quiet queue must not release a burst later
+            if admitted + admit >= issued then
+              admit = issued - admitted
+              admitted = issued
+              credit = 0
+            else
+              admitted = admitted + admit
+            end
+            redis.call('HSET', KEYS[1], 'admitted', admitted, 'credit', tostring(credit), 'last', now)
+            return admit
+            """, Long.class);
+
+    // Removes the user's ticket only if it is the one the admission token was issued for
+    private static final RedisScript<Long> CONSUME_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${app.waiting-room.secret:${app.jwtSecret}}")
+    private String secret;
+
+    @Value("${app.waiting-room.default-admit-per-second:50}")
+    private int defaultAdmitPerSecond;
+
+    @Value("${app.waiting-room.tick-ms:200}")
+    private long tickMs;
+
+    @Value("${app.waiting-room.queue-token-ttl-ms:7200000}")
+    private long queueTokenTtlMs;
+
+    @Value("${app.waiting-room.admission-token-ttl-ms:600000}")
+    private long admissionTokenTtlMs;
+
+    @Value("${app.waiting-room.max-tickets:1000000}")
+    private long maxTickets;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "waiting-room-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::admitTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Open (or re-rate) the waiting room for an event
+     *
+     * @param eventId the event going on sale
+     * @param admitPerSecond admissions per second, or null for the configured default
+     */
+    public void openRoom(Long eventId, Integer admitPerSecond) {
+        int rate = admitPerSecond != null && admitPerSecond > 0 ? admitPerSecond : defaultAdmitPerSecond;
+        redisTemplate.execute(OPEN_SCRIPT, List.of(roomKey(eventId)), String.valueOf(rate));
+        redisTemplate.opsForSet().add(ROOMS_KEY, String.valueOf(eventId));
+        log.info("Waiting room open for event: {} admitting {}/s", eventId, rate);
+    }
+
+    /**
+     * Close the waiting room; bookings for the event are no longer gated
+     */
+    public void closeRoom(Long eventId) {
+        redisTemplate.opsForSet().remove(ROOMS_KEY, String.valueOf(eventId));
+        if (redisTemplate.delete(List.of(roomKey(eventId), ticketsKey(eventId))) > 0) {
+            log.info("Waiting room closed for event: {}", eventId);
+        }
+    }
+
+    public boolean isRoomOpen(Long eventId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(roomKey(eventId)));
+    }
+
+    /**
+     * Join the queue for an event. Joining again returns the user's existing place.
+     *
+     * @throws AdmissionRequiredException if the room already holds max-tickets waiting users
+     */
+    public WaitingRoomStatus join(Long eventId, Long userId) {
+        List<?> joined = redisTemplate.execute(JOIN_SCRIPT, List.of(roomKey(eventId), ticketsKey(eventId)),
+                String.valueOf(userId), String.valueOf(maxTickets));
+        long ticket = ((Number) joined.get(0)).longValue();
+        if (ticket == -1) {
+            // No on-sale in progress: admit straight away
+            return admitted(eventId, userId, null, null);
+        }
+        if (ticket == -2) {
+            throw new AdmissionRequiredException("Waiting room for event " + eventId + " is full, please retry later");
+        }
+
+        String queueToken = Jwts.builder()
+                .claim(CLAIM_TYPE, TYPE_QUEUE)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_EVENT_ID, eventId)
+                .claim(CLAIM_TICKET, ticket)
+                .setExpiration(new Date(System.currentTimeMillis() + queueTokenTtlMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        log.debug("User {} joined waiting room for event {} with ticket {}", userId, eventId, ticket);
+        return statusFor(eventId, userId, ticket, queueToken,
+                ((Number) joined.get(1)).longValue(), ((Number) joined.get(2)).intValue());
+    }
+
+    /**
+     * Current queue position for a queue token; only signature checks and Redis counters, no DB access
+     */
+    public WaitingRoomStatus status(Long eventId, String queueToken) {
+        Claims claims = parse(queueToken, TYPE_QUEUE);
+        if (claims.get(CLAIM_EVENT_ID, Long.class).longValue() != eventId) {
+            throw new InvalidTokenException("Queue token is for a different event");
+        }
+
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        List<Object> state = redisTemplate.opsForHash().multiGet(roomKey(eventId), List.of("admitted", "rate"));
+        if (state.get(0) == null || state.get(1) == null) {
+            return admitted(eventId, userId, null, null);
+        }
+        return statusFor(eventId, userId, claims.get(CLAIM_TICKET, Long.class), queueToken,
+                Long.parseLong((String) state.get(0)), Integer.parseInt((String) state.get(1)));
+    }
+
+    /**
+     * Reject the booking unless the event has no open room or the user holds a valid admission token.
+     * The token is consumed: its ticket leaves the queue, so it cannot admit a second booking.
+     */
+    public void checkAdmission(Long eventId, Long userId, String admissionToken) {
+        if (!isRoomOpen(eventId)) {
+            return;
+        }
+        if (admissionToken == null) {
+            throw new AdmissionRequiredException("Event " + eventId + " is in a waiting room; join the queue first");
+        }
+
+        Claims claims;
+        try {
+            claims = parse(admissionToken, TYPE_ADMISSION);
+        } catch (InvalidTokenException e) {
+            throw new AdmissionRequiredException("Admission token rejected: " + e.getMessage());
+        }
+        if (claims.get(CLAIM_EVENT_ID, Long.class).longValue() != eventId
+                || claims.get(CLAIM_USER_ID, Long.class).longValue() != userId) {
+            throw new AdmissionRequiredException("Admission token does not match this user and event");
+        }
+
+        Long ticket = claims.get(CLAIM_TICKET, Long.class);
+        Long consumed = ticket == null ? null : redisTemplate.execute(CONSUME_SCRIPT,
+                List.of(ticketsKey(eventId)), String.valueOf(userId), String.valueOf(ticket));
+        if (consumed == null || consumed == 0) {
+            throw new AdmissionRequiredException("Admission token was already used; join the queue again");
+        }
+    }
+
+    private WaitingRoomStatus statusFor(Long eventId, Long userId, long ticket, String queueToken,
+                                        long admittedUpTo, int admitPerSecond) {
+        long ahead = ticket - admittedUpTo;
+        if (ahead <= 0) {
+            return admitted(eventId, userId, ticket, queueToken);
+        }
+        return WaitingRoomStatus.builder()
+                .eventId(eventId)
+                .admitted(false)
+                .position(ahead)
+                .estimatedWaitSeconds((ahead + admitPerSecond - 1) / admitPerSecond)
+                .queueToken(queueToken)
+                .build();
+    }
+
+    private WaitingRoomStatus admitted(Long eventId, Long userId, Long ticket, String queueToken) {
+        String admissionToken = Jwts.builder()
+                .claim(CLAIM_TYPE, TYPE_ADMISSION)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_EVENT_ID, eventId)
+                .claim(CLAIM_TICKET, ticket)
+                .setExpiration(new Date(System.currentTimeMillis() + admissionTokenTtlMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+
+        return WaitingRoomStatus.builder()
+                .eventId(eventId)
+                .admitted(true)
+                .position(0L)
+                .estimatedWaitSeconds(0L)
+                .queueToken(queueToken)
+                .admissionToken(admissionToken)
+                .build();
+    }
+
+    private Claims parse(String token, String expectedType) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid " + expectedType + " token", e);
+        }
+        if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+            throw new InvalidTokenException("Not a " + expectedType + " token");
+        }
+        return claims;
+    }
+
+    private void admitTick() {
+        try {
+            Set<String> eventIds = redisTemplate.opsForSet().members(ROOMS_KEY);
+            if (eventIds == null) {
+                return;
+            }
+            for (String eventId : eventIds) {
+                redisTemplate.execute(TICK_SCRIPT, List.of(roomKey(Long.valueOf(eventId))));
+            }
+        } catch (Exception e) {
+            log.error("Waiting room tick failed", e);
+        }
+    }
+
+    // {eventId} hash tag keeps a room's keys in one cluster slot for the multi-key scripts
+    private static String roomKey(Long eventId) {
+        return "waiting-room:{" + eventId + "}";
+    }
+
+    private static String ticketsKey(Long eventId) {
+        return "waiting-room:{" + eventId + "}:tickets";
+    }
+}
@@ -1,12 +1,20 @@
 package com.goevently.bookingservice.util;
 
+import com.goevently.bookingservice.exception.ForbiddenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 @Component
@@ -19,6 +27,29 @@ public class JwtTokenUtil {
     @Value("${app.jwtExpirationMs:86400000}")
     private long jwtExpirationMs;
 
+    @Value("${app.serviceTokenTtlMs:300000}")
+    private long serviceTokenTtlMs;
+
+    @Value("${app.jwt-cache.max-entries:50000}")
+    private int tokenCacheMaxEntries;
+
+    @Value("${app.internal-identity.secret}")
+    private String internalIdentitySecret;
+
+    private Key signingKey;
+    private VerifiedTokenCache tokenCache;
+    private InternalIdentity internalIdentity;
+
+    private volatile String serviceToken;
+    private volatile long serviceTokenRefreshAt;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        tokenCache = new VerifiedTokenCache(signingKey, tokenCacheMaxEntries);
+        internalIdentity = new InternalIdentity(internalIdentitySecret);
+    }
+
     /**
      * Extract JWT token from Authorization header
      * Format: "Bearer <token>"
@@ -35,14 +66,15 @@ public class JwtTokenUtil {
      * Returns Claims if valid, throws exception if invalid
      */
     public Claims validateAndParseToken(String token) {
+        Claims trusted = claimsFromGateway();
+        if (trusted != null) {
+            return trusted;
+        }
+
         try {
             log.debug("Validating JWT token...");
 
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = tokenCache.verify(token);
 
             log.debug("JWT token is valid. Subject: {}", claims.getSubject());
             return claims;
@@ -64,6 +96,28 @@ public class JwtTokenUtil {
         }
     }
 
+    /**
+     * Identity already verified by the API gateway (signed X-Internal-Identity header), or null
+     * for direct calls and invalid or expired headers, which then get full JWT verification
+     */
+    private Claims claimsFromGateway() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        InternalIdentity.Identity identity =
+                internalIdentity.verify(servletAttributes.getRequest().getHeader(InternalIdentity.HEADER));
+        if (identity == null) {
+            return null;
+        }
+
+        log.debug("Using gateway-verified identity for user: {}", identity.userId());
+        Claims claims = Jwts.claims().setSubject(identity.username());
+        claims.put("userId", identity.userId());
+        claims.put("role", identity.role());
+        return claims;
+    }
+
     /**
      * Extract userId (subject) from JWT claims
      */
@@ -102,6 +156,44 @@ public class JwtTokenUtil {
     }
 
 
+    /**
+     * Short-lived token identifying booking-service itself, for calls made outside a user
+     * request (e.g. Kafka listeners). Reused until shortly before it expires.
+     */
+    public String getServiceToken() {
+        long now = System.currentTimeMillis();
+        if (serviceToken == null || now >= serviceTokenRefreshAt) {
+            serviceToken = Jwts.builder()
+                    .setSubject("booking-service")
+                    .claim("role", "SERVICE")
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(new Date(now + serviceTokenTtlMs))
+                    .signWith(signingKey)
+                    .compact();
+            serviceTokenRefreshAt = now + serviceTokenTtlMs / 2;
+        }
+        return serviceToken;
+    }
+
+    /**
+     * Extract the user's role (USER, ORGANIZER, ADMIN) from JWT claims
+     */
+    public String getRoleFromClaims(Claims claims) {
+        return claims.get("role", String.class);
+    }
+
+    /**
+     * Reject the request unless the token carries one of the given roles
+     *
+     * @throws ForbiddenException if the role is missing or not allowed
+     */
+    public void requireAnyRole(Claims claims, String... roles) {
+        String role = getRoleFromClaims(claims);
+        if (role == null || !Arrays.asList(roles).contains(role)) {
+            throw new ForbiddenException("requires role " + String.join(" or ", roles));
+        }
+    }
+
     /**
      * Extract roles from JWT claims
      */
@@ -0,0 +1,15 @@
+-- One-off conversion of bookings.status from enum names to TINYINT codes (see BookingStatus).
+-- Needed only for booking_db instances created before status became a TINYINT:
+-- ddl-auto=update never changes the type of an existing column.
+-- Run once against booking_db before starting the new booking-service build.
+
+UPDATE bookings
+SET status = CASE status
+                 WHEN 'PENDING' THEN '0'
+                 WHEN 'CONFIRMED' THEN '1'
+                 WHEN 'FAILED' THEN '2'
+                 WHEN 'CANCELLED' THEN '3'
+             END
+WHERE status IN ('PENDING', 'CONFIRMED', 'FAILED', 'CANCELLED');
+
+ALTER TABLE bookings MODIFY COLUMN status TINYINT NOT NULL;
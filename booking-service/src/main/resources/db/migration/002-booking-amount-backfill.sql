@@ -0,0 +1,18 @@
+-- One-off backfill of bookings.amount for cart bookings created before the column existed,
+-- so EventBookingStats revenue (and its reconciliation) keeps counting them.
+-- Non-cart bookings confirmed earlier have no recorded amount and stay NULL (counted as zero).
+-- Run once against booking_db after the new booking-service build has added the column.
+
+UPDATE bookings b
+    JOIN (SELECT booking_id, SUM(unit_price * quantity) AS amount
+          FROM booking_items
+          GROUP BY booking_id) i ON i.booking_id = b.id
+SET b.amount = i.amount
+WHERE b.amount IS NULL;
+
+UPDATE bookings_archive b
+    JOIN (SELECT booking_id, SUM(unit_price * quantity) AS amount
+          FROM booking_items
+          GROUP BY booking_id) i ON i.booking_id = b.id
+SET b.amount = i.amount
+WHERE b.amount IS NULL;
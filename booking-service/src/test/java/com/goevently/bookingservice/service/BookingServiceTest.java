@@ -0,0 +1,235 @@
+package com.goevently.bookingservice.service;
+
+import com.goevently.bookingservice.dto.BookingResponse;
+import com.goevently.bookingservice.dto.CursorPage;
+import com.goevently.bookingservice.entity.ArchivedBooking;
+import com.goevently.bookingservice.entity.Booking;
+import com.goevently.bookingservice.entity.BookingStatus;
+import com.goevently.bookingservice.repository.ArchivedBookingRepository;
+import com.goevently.bookingservice.repository.BookingItemRepository;
+import com.goevently.bookingservice.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Booking state transitions: redelivered and out-of-order saga events, and transitions that
+ * race each other. Row locking itself is MySQL's job; these tests check that every transition
+ * reads the booking through the locking query and decides from the status it finds there.
+ * Also covers reads that have to see bookings already moved to bookings_archive.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BookingServiceTest {
+
+    private static final Long BOOKING_ID = 1L;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingItemRepository bookingItemRepository;
+
+    @Mock
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    @Mock
+    private BookingStatsService bookingStatsService;
+
+    @Mock
+    private PurchaseLimiter purchaseLimiter;
+
+    @InjectMocks
+    private BookingService bookingService;
+
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        booking = Booking.builder()
+                .id(BOOKING_ID)
+                .userId(7L)
+                .eventId(42L)
+                .seats(2)
+                .status(BookingStatus.PENDING)
+                .bookingTime(LocalDateTime.now())
+                .build();
+        when(bookingRepository.findByIdForUpdate(BOOKING_ID)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void paymentSuccessConfirmsPendingBooking() {
+        assertFalse(bookingService.applyPaymentSuccess(BOOKING_ID, "p1", new BigDecimal("50.00")));
+
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        assertEquals("p1", booking.getPaymentId());
+        assertEquals(new BigDecimal("50.00"), booking.getAmount());
+        verify(bookingStatsService).recordTransition(booking, BookingStatus.PENDING);
+        verify(kafkaProducerService).sendBookingConfirmed(any());
+        verify(bookingRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void redeliveredPaymentSuccessIsIgnored() {
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setPaymentId("p1");
+
+        assertFalse(bookingService.applyPaymentSuccess(BOOKING_ID, "p1", BigDecimal.TEN));
+
+        verify(bookingRepository, never()).save(any());
+        verify(bookingStatsService, never()).recordTransition(any(), any());
+        verify(kafkaProducerService, never()).sendBookingConfirmed(any());
+    }
+
+    @Test
+    void redeliveredPaymentFailureIsIgnored() {
+        bookingService.applyPaymentFailure(BOOKING_ID);
+        bookingService.applyPaymentFailure(BOOKING_ID);
+
+        assertEquals(BookingStatus.FAILED, booking.getStatus());
+        verify(purchaseLimiter, times(1)).releaseForTransaction(7L, 42L, 2);
+        verify(bookingStatsService, times(1)).recordTransition(any(), any());
+    }
+
+    @Test
+    void refundOvertakingItsSuccessCancelsAndSuppressesConfirmation() {
+        bookingService.applyPaymentRefund(BOOKING_ID, "p1");
+
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        assertEquals("p1", booking.getPaymentId());
+
+        assertFalse(bookingService.applyPaymentSuccess(BOOKING_ID, "p1", BigDecimal.TEN));
+
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(kafkaProducerService, never()).sendBookingConfirmed(any());
+        verify(purchaseLimiter, times(1)).releaseForTransaction(7L, 42L, 2);
+    }
+
+    @Test
+    void successAfterCancellationAsksForRefund() {
+        bookingService.cancelBooking(BOOKING_ID);
+
+        assertTrue(bookingService.applyPaymentSuccess(BOOKING_ID, "p2", BigDecimal.TEN));
+
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(kafkaProducerService, never()).sendBookingConfirmed(any());
+        verify(bookingStatsService, never()).recordTransition(any(), eq(BookingStatus.CANCELLED));
+    }
+
+    @Test
+    void transitionLosingTheLockSeesTheWinnersStatus() {
+        // payment-failed wins the row lock; the REST cancel queued behind it then reads FAILED
+        bookingService.applyPaymentFailure(BOOKING_ID);
+        bookingService.cancelBooking(BOOKING_ID);
+
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        // Seats and purchase allowance are returned once, by the transition that left PENDING
+        verify(purchaseLimiter, times(1)).releaseForTransaction(7L, 42L, 2);
+        verify(bookingStatsService, times(1)).recordTransition(any(), eq(BookingStatus.PENDING));
+        verify(bookingStatsService, times(1)).recordTransition(any(), eq(BookingStatus.FAILED));
+    }
+
+    @Test
+    void repeatedCancelIsIgnored() {
+        bookingService.cancelBooking(BOOKING_ID);
+        bookingService.cancelBooking(BOOKING_ID);
+
+        verify(purchaseLimiter, times(1)).releaseForTransaction(7L, 42L, 2);
+        verify(kafkaProducerService, times(1)).sendBookingCancelled(any());
+    }
+
+    @Test
+    void confirmRejectsCancelledBooking() {
+        booking.setStatus(BookingStatus.CANCELLED);
+
+        assertThrows(RuntimeException.class, () -> bookingService.confirmBooking(BOOKING_ID, "p1"));
+
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(bookingRepository, never()).save(any());
+        verify(bookingStatsService, never()).recordTransition(any(), any());
+    }
+
+    @Test
+    void repeatedConfirmIsIgnored() {
+        bookingService.confirmBooking(BOOKING_ID, "p1");
+        bookingService.confirmBooking(BOOKING_ID, "p1");
+
+        verify(bookingStatsService, times(1)).recordTransition(any(), eq(BookingStatus.PENDING));
+        verify(kafkaProducerService, times(1)).sendBookingConfirmed(any());
+    }
+
+    @Test
+    void archivedBookingIsRestoredUnderLockBeforeTransition() {
+        when(bookingRepository.findByIdForUpdate(BOOKING_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(booking));
+        when(archivedBookingRepository.findByIdForUpdate(BOOKING_ID))
+                .thenReturn(Optional.of(new ArchivedBooking()));
+
+        bookingService.cancelBooking(BOOKING_ID);
+
+        verify(archivedBookingRepository).copyToHot(BOOKING_ID);
+        verify(archivedBookingRepository).deleteArchived(BOOKING_ID);
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+    }
+
+    @Test
+    void eventCursorPageMergesArchivedBookingsById() {
+        when(bookingRepository.findEventBookingsAfter(eq(42L), anyLong(), any()))
+                .thenReturn(List.of(booking(9L), booking(3L)));
+        when(archivedBookingRepository.findEventBookingsAfter(eq(42L), anyLong(), any()))
+                .thenReturn(List.of(archived(8L), archived(5L)));
+
+        CursorPage<BookingResponse> page = bookingService.getEventBookings(42L, null, null, 3);
+
+        assertEquals(List.of(9L, 8L, 5L), page.getContent().stream().map(BookingResponse::getId).toList());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void idempotencyLookupFindsArchivedBooking() {
+        when(bookingRepository.findByUserIdAndIdempotencyKey(7L, "key-1")).thenReturn(Optional.empty());
+        when(archivedBookingRepository.findByUserIdAndIdempotencyKey(eq(7L), anyString()))
+                .thenReturn(Optional.of(archived(5L)));
+
+        assertEquals(5L, bookingService.getBookingByIdempotencyKey(7L, "key-1").getId());
+    }
+
+    private Booking booking(Long id) {
+        return Booking.builder().id(id).userId(7L).eventId(42L).seats(1)
+                .status(BookingStatus.CONFIRMED).bookingTime(LocalDateTime.now()).build();
+    }
+
+    private ArchivedBooking archived(Long id) {
+        return ArchivedBooking.builder().id(id).userId(7L).eventId(42L).seats(1)
+                .status(BookingStatus.CONFIRMED).bookingTime(LocalDateTime.now().minusYears(2)).build();
+    }
+}
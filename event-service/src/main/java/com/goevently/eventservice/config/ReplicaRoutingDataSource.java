@@ -0,0 +1,285 @@
+package com.goevently.eventservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to healthy read replicas and everything else to the primary.
+ *
+ * A background check polls each replica's replication lag; replicas that are unreachable or
+ * lag more than the configured limit are skipped until they catch up. After a session commits a
+ * transaction that actually executed a write statement, its reads stick to the primary for a short
+ * window (read-your-writes). Sessions are tracked by a SHA-256 digest of the caller's key, never the
+ * raw credential. The primary and replica pools passed in are owned here and closed by shutdown().
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<String> SESSION_KEY = new ThreadLocal<>();
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final DataSource primary;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Map<String, Boolean> replicaHealthy = new ConcurrentHashMap<>();
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private final long maxLagSeconds;
+    private final long readYourWritesWindowMs;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    long maxLagSeconds, long readYourWritesWindowMs, long lagCheckIntervalMs) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+        this.readYourWritesWindowMs = readYourWritesWindowMs;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            replicas.put(key, replicaDataSources.get(i));
+            replicaHealthy.put(key, false);
+            targets.put(key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        if (replicaKeys.isEmpty()) {
+            lagChecker = null;
+            return;
+        }
+
+        lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Binds the current request's session key (used for read-your-writes stickiness). Only a digest
+     * of the key is kept.
+     */
+    public static void setSessionKey(String sessionKey) {
+        SESSION_KEY.set(sessionKey != null ? digest(sessionKey) : null);
+    }
+
+    public static void clearSessionKey() {
+        SESSION_KEY.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        String sessionKey = SESSION_KEY.get();
+        if (sessionKey != null) {
+            Long until = stickyUntil.get(sessionKey);
+            if (until != null) {
+                if (until > System.currentTimeMillis()) {
+                    return PRIMARY;
+                }
+                stickyUntil.remove(sessionKey, until);
+            }
+        }
+
+        int size = replicaKeys.size();
+        int start = Math.floorMod(roundRobin.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (replicaHealthy.get(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    /**
+     * Wraps primary connections opened inside a read-write transaction so that the first write
+     * statement registers an afterCommit hook marking the session sticky. Transactions that only
+     * read, or that roll back, leave the session free to use replicas.
+     */
+    private Connection trackWrites(Connection connection) {
+        String sessionKey = SESSION_KEY.get();
+        if (sessionKey == null || replicaKeys.isEmpty()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, writeListener(sessionKey));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, writeListener(sessionKey));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, writeListener(sessionKey));
+            }
+            return result;
+        });
+    }
+
+    private <T> StatementHandler<T> writeListener(String sessionKey) {
+        return (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (WRITE_METHODS.contains(method.getName())) {
+                markStickyAfterCommit(sessionKey);
+            }
+            return result;
+        };
+    }
+
+    private void markStickyAfterCommit(String sessionKey) {
+        String resourceKey = ReplicaRoutingDataSource.class.getName() + ".write@" + System.identityHashCode(this);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(resourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(resourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(sessionKey, System.currentTimeMillis() + readYourWritesWindowMs);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface StatementHandler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, StatementHandler<T> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(target, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void checkReplicaLag() {
+        for (String key : replicaKeys) {
+            boolean healthy;
+            try (Connection connection = replicas.get(key).getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                // No replication status means a standalone server (e.g. local dev): nothing to lag behind
+                healthy = !rs.next() || isWithinLag(rs);
+            } catch (Exception e) {
+                log.warn("Replica {} health check failed: {}", key, e.getMessage());
+                healthy = false;
+            }
+
+            Boolean previous = replicaHealthy.put(key, healthy);
+            if (previous != null && previous != healthy) {
+                log.info("Replica {} is now {}", key, healthy ? "in rotation" : "out of rotation");
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    private boolean isWithinLag(ResultSet rs) throws Exception {
+        ResultSetMetaData meta = rs.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(meta.getColumnLabel(i))) {
+                long lag = rs.getLong(i);
+                // NULL lag means replication is stopped
+                return !rs.wasNull() && lag <= maxLagSeconds;
+            }
+        }
+        return false;
+    }
+
+    public void shutdown() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        // Built by hand rather than as beans, so nothing else closes these pools
+        for (String key : replicaKeys) {
+            close(key, replicas.get(key));
+        }
+        close(PRIMARY, primary);
+    }
+
+    private static void close(String key, DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Closing {} data source failed: {}", key, e.getMessage());
+            }
+        }
+    }
+}
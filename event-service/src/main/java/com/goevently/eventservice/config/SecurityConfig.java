@@ -1,6 +1,7 @@
 package com.goevently.eventservice.config;
 
 import com.goevently.eventservice.filter.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
+                        // Async re-dispatch of a request already authorized on its first pass (e.g. /api/events/{id}/detail)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // All endpoints in this service require authentication
                         .anyRequest().authenticated()
                 )
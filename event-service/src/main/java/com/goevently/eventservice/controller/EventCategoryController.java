@@ -5,9 +5,11 @@ import com.goevently.eventservice.dto.CategoryResponse;
 import com.goevently.eventservice.dto.CreateCategoryRequest;
 import com.goevently.eventservice.dto.UpdateCategoryRequest;
 import com.goevently.eventservice.service.EventCategoryService;
+import com.goevently.eventservice.service.ResponseBytesCache;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,10 +29,13 @@ import java.util.List;
 public class EventCategoryController {
 
     private final EventCategoryService eventCategoryService;
+    private final ResponseBytesCache responseBytesCache;
 
     @Autowired
-    public EventCategoryController(EventCategoryService eventCategoryService) {
+    public EventCategoryController(EventCategoryService eventCategoryService,
+                                   ResponseBytesCache responseBytesCache) {
         this.eventCategoryService = eventCategoryService;
+        this.responseBytesCache = responseBytesCache;
     }
 
     /**
@@ -63,26 +68,31 @@ public class EventCategoryController {
     /**
      * Retrieve all event categories.
      * Accessible to all authenticated users.
+     * Served from the pre-serialized response cache (JSON or MessagePack).
      *
      * GET /api/categories
      *
-     * @return ResponseEntity with ApiResponse containing list of CategoryResponse
+     * @param accept the Accept header, used to pick JSON or MessagePack
+     * @param acceptEncoding the Accept-Encoding header, used to pick the gzip variant
+     * @return ResponseEntity with the serialized ApiResponse containing list of CategoryResponse
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ORGANIZER', 'ADMIN')")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
+    public ResponseEntity<byte[]> getAllCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         log.info("API Call: Fetching all categories");
 
-        List<CategoryResponse> categories = eventCategoryService.getAllCategories();
+        ResponseBytesCache.Entry entry = responseBytesCache.getOrCompute(ResponseBytesCache.CATEGORIES_ALL,
+                ResponseBytesCache.negotiate(accept), () ->
+                ApiResponse.<List<CategoryResponse>>builder()
+                        .success(true)
+                        .message("Categories retrieved successfully")
+                        .data(eventCategoryService.getAllCategories())
+                        .build());
 
-        ApiResponse<List<CategoryResponse>> response = ApiResponse.<List<CategoryResponse>>builder()
-                .success(true)
-                .message("Categories retrieved successfully")
-                .data(categories)
-                .build();
-
-        return ResponseEntity.ok(response);
+        return responseBytesCache.toResponseEntity(entry, acceptEncoding);
     }
 
     /**
@@ -4,10 +4,13 @@ import com.goevently.eventservice.dto.ApiResponse;
 import com.goevently.eventservice.dto.CreateEventRequest;
 import com.goevently.eventservice.dto.EventResponse;
 import com.goevently.eventservice.dto.UpdateEventRequest;
+import com.goevently.eventservice.service.EventDetailService;
 import com.goevently.eventservice.service.EventService;
+import com.goevently.eventservice.service.ResponseBytesCache;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,6 +19,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.goevently.eventservice.dto.EventFilterRequest;
 import java.time.LocalDateTime;
@@ -33,10 +37,15 @@ import com.goevently.eventservice.dto.EventSearchRequest;
 public class EventController {
 
     private final EventService eventService;
+    private final EventDetailService eventDetailService;
+    private final ResponseBytesCache responseBytesCache;
 
     @Autowired
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventDetailService eventDetailService,
+                           ResponseBytesCache responseBytesCache) {
         this.eventService = eventService;
+        this.eventDetailService = eventDetailService;
+        this.responseBytesCache = responseBytesCache;
     }
 
     /**
@@ -62,20 +71,40 @@ public class EventController {
 
     /**
      * Endpoint for retrieving a single event by ID.
+     * Served from the pre-serialized response cache (JSON or MessagePack); only misses hit the service.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getEventById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("Received request to get event with ID: {}", id);
 
-        EventResponse eventResponse = eventService.getEventById(id);
+        ResponseBytesCache.Entry entry = responseBytesCache.getOrCompute(ResponseBytesCache.eventKey(id),
+                ResponseBytesCache.negotiate(accept), () ->
+                ApiResponse.<EventResponse>builder()
+                        .success(true)
+                        .message("Event retrieved successfully")
+                        .data(eventService.getEventById(id))
+                        .build());
 
-        ApiResponse<EventResponse> response = ApiResponse.<EventResponse>builder()
-                .success(true)
-                .message("Event retrieved successfully")
-                .data(eventResponse)
-                .build();
+        return responseBytesCache.toResponseEntity(entry, acceptEncoding);
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * Endpoint for the event detail page: event, venue, category and ticket tiers in one response.
+     * Runs asynchronously; answers 304 when If-None-Match carries the current version.
+     */
+    @GetMapping("/{id}/detail")
+    public CompletableFuture<ResponseEntity<byte[]>> getEventDetail(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Received request to get detail page for event with ID: {}", id);
+
+        return eventDetailService.getEventDetail(id, ResponseBytesCache.negotiate(accept))
+                .thenApply(entry -> responseBytesCache.toConditionalResponseEntity(entry, acceptEncoding, ifNoneMatch));
     }
 
     /**
@@ -58,6 +58,44 @@ public class TicketTierController {
         return ResponseEntity.ok(ApiResponse.success("Ticket tier updated successfully", updated));
     }
 
+    @PostMapping("/{id}/reserve")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<ApiResponse<TicketTierResponse>> reserveSeats(
+            @PathVariable Long id,
+            @RequestParam int quantity) {
+        log.info("API Call: Reserve {} seats in ticket tier ID {}", quantity, id);
+        TicketTierResponse tier = ticketTierService.reserveSeats(id, quantity);
+        return ResponseEntity.ok(ApiResponse.success("Seats reserved successfully", tier));
+    }
+
+    @PostMapping("/{id}/release")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<ApiResponse<TicketTierResponse>> releaseSeats(
+            @PathVariable Long id,
+            @RequestParam int quantity) {
+        log.info("API Call: Release {} seats in ticket tier ID {}", quantity, id);
+        TicketTierResponse tier = ticketTierService.releaseSeats(id, quantity);
+        return ResponseEntity.ok(ApiResponse.success("Seats released successfully", tier));
+    }
+
+    @PostMapping("/reserve")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<ApiResponse<List<TicketTierResponse>>> reserveSeats(
+            @Valid @RequestBody TierReservationRequest request) {
+        log.info("API Call: Reserve seats in {} ticket tiers for event ID {}", request.getItems().size(), request.getEventId());
+        List<TicketTierResponse> tiers = ticketTierService.reserveSeats(request);
+        return ResponseEntity.ok(ApiResponse.success("Seats reserved successfully", tiers));
+    }
+
+    @PostMapping("/release")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<ApiResponse<List<TicketTierResponse>>> releaseSeats(
+            @Valid @RequestBody TierReservationRequest request) {
+        log.info("API Call: Release seats in {} ticket tiers for event ID {}", request.getItems().size(), request.getEventId());
+        List<TicketTierResponse> tiers = ticketTierService.releaseSeats(request);
+        return ResponseEntity.ok(ApiResponse.success("Seats released successfully", tiers));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'ORGANIZER')")
     public ResponseEntity<ApiResponse<Void>> deleteTier(@PathVariable Long id) {
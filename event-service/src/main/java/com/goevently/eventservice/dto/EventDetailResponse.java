@@ -0,0 +1,27 @@
+package com.goevently.eventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Everything the event detail page shows, in one payload.
+ * The version changes whenever the event, its venue, category or any tier changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDetailResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private EventResponse event;
+    private VenueResponse venue;
+    private CategoryResponse category;
+    private List<TicketTierResponse> tiers;
+    private String version;
+}
@@ -0,0 +1,48 @@
+package com.goevently.eventservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Seats to take from (or return to) several tiers of one event in a single all-or-nothing call.
+ * The reservation ID is chosen by the caller and makes both calls safe to retry. A release
+ * returns the seats recorded when the ID was reserved, whatever the items say.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TierReservationRequest {
+
+    @NotBlank(message = "Reservation ID is required")
+    @Size(max = 36, message = "Reservation ID must be at most 36 characters")
+    private String reservationId;
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @NotEmpty(message = "At least one tier is required")
+    @Valid
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "Tier ID is required")
+        private Long tierId;
+
+        @NotNull(message = "Quantity is required")
+        @Min(value = 1, message = "Quantity must be at least 1")
+        private Integer quantity;
+    }
+}
@@ -38,6 +38,11 @@ public class TicketTier {
     @Column(length = 255)
     private String description;
 
+    // Optimistic lock: concurrent organizer edits and seat sales fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,75 @@
+package com.goevently.eventservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ledger of multi-tier reservations, keyed by the caller's reservation ID.
+ *
+ * Makes reserve and release idempotent: a retried reserve is not applied twice, a repeated
+ * release returns seats only once, and a release that overtakes its reserve leaves a
+ * released row behind so the late reserve is refused instead of leaking seats. The seats
+ * taken per tier are kept with the row, so a release returns exactly those.
+ */
+@Entity
+@Table(name = "tier_reservations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TierReservation {
+
+    @Id
+    @Column(length = 36)
+    private String reservationId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private boolean released;
+
+    // Seats taken per tier ID; empty for a release that arrived first
+    @ElementCollection
+    @CollectionTable(name = "tier_reservation_items", joinColumns = @JoinColumn(name = "reservation_id"))
+    @MapKeyColumn(name = "tier_id")
+    @Column(name = "quantity", nullable = false)
+    private Map<Long, Integer> quantities = new HashMap<>();
+
+    // Also marks new rows (null) so save() inserts instead of merging
+    @Version
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TierReservation(String reservationId, Long eventId, boolean released) {
+        this.reservationId = reservationId;
+        this.eventId = eventId;
+        this.released = released;
+    }
+
+    public TierReservation(String reservationId, Long eventId, Map<Long, Integer> quantities) {
+        this(reservationId, eventId, false);
+        this.quantities.putAll(quantities);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,8 +1,10 @@
 package com.goevently.eventservice.filter;
 
+import com.goevently.eventservice.util.InternalIdentity;
+import com.goevently.eventservice.util.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,7 +19,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.security.Key;
 import java.util.List;
 
 /**
@@ -31,8 +32,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.max-entries:50000}")
+    private int tokenCacheMaxEntries;
+
+    @Value("${app.internal-identity.secret}")
+    private String internalIdentitySecret;
+
+    private VerifiedTokenCache tokenCache;
+    private InternalIdentity internalIdentity;
+
+    @PostConstruct
+    void init() {
+        tokenCache = new VerifiedTokenCache(Keys.hmacShaKeyFor(jwtSecret.getBytes()), tokenCacheMaxEntries);
+        internalIdentity = new InternalIdentity(internalIdentitySecret);
     }
 
     @Override
@@ -53,16 +65,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            // Parse and validate the token using the SAME secret as auth-service
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(jwt)
-                    .getBody();
-
-            username = claims.getSubject();
-            String role = claims.get("role", String.class);
-            Long userId = claims.get("userId", Long.class);
+            String role;
+            Long userId;
+            InternalIdentity.Identity identity = internalIdentity.verify(request.getHeader(InternalIdentity.HEADER));
+            if (identity != null) {
+                // Already verified by the API gateway
+                username = identity.username();
+                role = identity.role();
+                userId = identity.userId();
+            } else {
+                // Direct call: parse and validate the token using the SAME secret as auth-service
+                Claims claims = tokenCache.verify(jwt);
+                username = claims.getSubject();
+                role = claims.get("role", String.class);
+                userId = claims.get("userId", Long.class);
+            }
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
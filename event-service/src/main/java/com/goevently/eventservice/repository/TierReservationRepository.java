@@ -0,0 +1,9 @@
+package com.goevently.eventservice.repository;
+
+import com.goevently.eventservice.entity.TierReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TierReservationRepository extends JpaRepository<TierReservation, String> {
+}
@@ -27,12 +27,15 @@ public class EventCategoryService {
 
     private final EventCategoryRepository eventCategoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ResponseBytesCache responseBytesCache;
 
     @Autowired
     public EventCategoryService(EventCategoryRepository eventCategoryRepository,
-                                CategoryMapper categoryMapper) {
+                                CategoryMapper categoryMapper,
+                                ResponseBytesCache responseBytesCache) {
         this.eventCategoryRepository = eventCategoryRepository;
         this.categoryMapper = categoryMapper;
+        this.responseBytesCache = responseBytesCache;
     }
 
     /**
@@ -66,6 +69,7 @@ public class EventCategoryService {
 
         // Save category
         EventCategory savedCategory = eventCategoryRepository.save(category);
+        responseBytesCache.evict(ResponseBytesCache.CATEGORIES_ALL);
         log.info("Event category created successfully with ID: {}", savedCategory.getId());
 
         return categoryMapper.toResponse(savedCategory);
@@ -78,6 +82,7 @@ public class EventCategoryService {
      * @return CategoryResponse containing category details
      * @throws EventException if category not found
      */
+    @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long id) {
         log.debug("Fetching category with ID: {}", id);
 
@@ -112,6 +117,7 @@ public class EventCategoryService {
      * @return CategoryResponse containing category details
      * @throws EventException if category not found
      */
+    @Transactional(readOnly = true)
     public CategoryResponse getCategoryByName(String name) {
         log.debug("Fetching category with name: {}", name);
 
@@ -174,6 +180,10 @@ public class EventCategoryService {
 
         // Save updated category
         EventCategory updatedCategory = eventCategoryRepository.save(category);
+
+        // Cached events embed the category name
+        responseBytesCache.evict(ResponseBytesCache.CATEGORIES_ALL);
+        responseBytesCache.evictByPrefix(ResponseBytesCache.EVENT_PREFIX);
         log.info("Event category updated successfully: {}", updatedCategory.getId());
 
         return categoryMapper.toResponse(updatedCategory);
@@ -198,6 +208,8 @@ public class EventCategoryService {
                 });
 
         eventCategoryRepository.delete(category);
+        responseBytesCache.evict(ResponseBytesCache.CATEGORIES_ALL);
+        responseBytesCache.evictByPrefix(ResponseBytesCache.EVENT_PREFIX);
         log.info("Event category deleted successfully: {}", id);
     }
 
@@ -0,0 +1,141 @@
+package com.goevently.eventservice.service;
+
+import com.goevently.eventservice.dto.ApiResponse;
+import com.goevently.eventservice.dto.CategoryResponse;
+import com.goevently.eventservice.dto.EventDetailResponse;
+import com.goevently.eventservice.dto.EventResponse;
+import com.goevently.eventservice.dto.TicketTierResponse;
+import com.goevently.eventservice.dto.VenueResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Backend-for-frontend read for the event detail page: event, venue, category and ticket
+ * tiers in one response instead of four client calls.
+ *
+ * On a miss the parts are loaded in parallel on the application task executor (tiers alongside
+ * the event, venue and category as soon as the event names them), so the request thread is not
+ * held while they run. The merged payload is cached as serialized bytes under the event and
+ * tagged with a version built from the parts' update stamps, which is also sent as the ETag.
+ * Any write to the event, its tiers, venue or category evicts it.
+ */
+@Service
+@Slf4j
+public class EventDetailService {
+
+    private final EventService eventService;
+    private final TicketTierService ticketTierService;
+    private final VenueService venueService;
+    private final EventCategoryService eventCategoryService;
+    private final ResponseBytesCache responseBytesCache;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.event-detail.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // The page embeds tier remainingQuantity, which every seat sale changes
+    @Value("${app.event-detail.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    @Autowired
+    public EventDetailService(EventService eventService,
+                              TicketTierService ticketTierService,
+                              VenueService venueService,
+                              EventCategoryService eventCategoryService,
+                              ResponseBytesCache responseBytesCache,
+                              @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+                              PlatformTransactionManager transactionManager) {
+        this.eventService = eventService;
+        this.ticketTierService = ticketTierService;
+        this.venueService = venueService;
+        this.eventCategoryService = eventCategoryService;
+        this.responseBytesCache = responseBytesCache;
+        this.executor = executor;
+        // Not read-only: the result is cached, so it must come from the primary (see ReadReplicaDataSourceConfig)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Returns the cached detail page for an event, assembling it on a miss. Cached pages live
+     * only app.event-detail.cache-ttl-ms, so availability and the ETag version stay fresh.
+     *
+     * @param eventId the event ID
+     * @param mediaType the wire format, from ResponseBytesCache.negotiate
+     * @return future completing with the serialized response, or failing with EventException if the event does not exist
+     */
+    public CompletableFuture<ResponseBytesCache.Entry> getEventDetail(Long eventId, MediaType mediaType) {
+        String key = ResponseBytesCache.eventDetailKey(eventId);
+        ResponseBytesCache.Entry cached = responseBytesCache.get(key, mediaType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long startGeneration = responseBytesCache.generation();
+
+        CompletableFuture<EventResponse> event = load(() -> eventService.getEventById(eventId));
+        CompletableFuture<List<TicketTierResponse>> tiers = load(() -> ticketTierService.getTiersByEvent(eventId));
+        CompletableFuture<VenueResponse> venue = event.thenCompose(e -> e.getVenueId() == null
+                ? CompletableFuture.completedFuture(null)
+                : load(() -> venueService.getVenueById(e.getVenueId())));
+        CompletableFuture<CategoryResponse> category = event.thenCompose(e -> e.getCategoryId() == null
+                ? CompletableFuture.completedFuture(null)
+                : load(() -> eventCategoryService.getCategoryById(e.getCategoryId())));
+
+        return CompletableFuture.allOf(tiers, venue, category)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> {
+                    EventDetailResponse detail = EventDetailResponse.builder()
+                            .event(event.join())
+                            .venue(venue.join())
+                            .category(category.join())
+                            .tiers(tiers.join())
+                            .build();
+                    detail.setVersion(versionOf(detail));
+
+                    log.debug("Assembled detail page for event {} at version {}", eventId, detail.getVersion());
+                    return responseBytesCache.put(key, mediaType, startGeneration,
+                            ApiResponse.success("Event details retrieved successfully", detail), detail.getVersion(), cacheTtlMs);
+                });
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> loader.get()), executor);
+    }
+
+    // Name-based UUID over every part's update stamp; any change to a part gives a new version
+    private String versionOf(EventDetailResponse detail) {
+        StringBuilder stamps = new StringBuilder()
+                .append(detail.getEvent().getId()).append('@').append(stamp(detail.getEvent().getUpdatedAt()));
+        if (detail.getVenue() != null) {
+            stamps.append("|v").append(detail.getVenue().getId()).append('@').append(stamp(detail.getVenue().getUpdatedAt()));
+        }
+        if (detail.getCategory() != null) {
+            stamps.append("|c").append(detail.getCategory().getId()).append('@').append(stamp(detail.getCategory().getUpdatedAt()));
+        }
+        for (TicketTierResponse tier : detail.getTiers()) {
+            stamps.append("|t").append(tier.getId()).append('@').append(stamp(tier.getUpdatedAt()))
+                    .append('#').append(tier.getRemainingQuantity());
+        }
+        return UUID.nameUUIDFromBytes(stamps.toString().getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static String stamp(LocalDateTime updatedAt) {
+        return updatedAt == null ? "-" : updatedAt.toString();
+    }
+}
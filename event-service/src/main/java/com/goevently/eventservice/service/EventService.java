@@ -45,6 +45,9 @@ public class EventService {
     @Autowired
     private KafkaProducerService kafkaProducerService;
 
+    @Autowired
+    private ResponseBytesCache responseBytesCache;
+
     @Autowired
     public EventService(EventRepository eventRepository,
                         EventMapper eventMapper,
@@ -150,6 +153,7 @@ public class EventService {
      * @param organizerUsername the organizer's username
      * @return List of EventResponse containing organizer's events
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> getEventsByOrganizer(String organizerUsername) {
         log.debug("Fetching events for organizer: {}", organizerUsername);
 
@@ -265,6 +269,7 @@ public class EventService {
 
         // Save and return response
         Event updatedEvent = eventRepository.save(event);
+        responseBytesCache.evictEvent(id);
         log.info("Event updated successfully: {}", updatedEvent.getId());
 
         EventResponse response = eventMapper.toResponse(updatedEvent);
@@ -301,6 +306,7 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        responseBytesCache.evictEvent(id);
 
         // NEW: Send Kafka message
         kafkaProducerService.sendEventDeleted(deletedEventResponse);
@@ -334,6 +340,7 @@ public class EventService {
 
         event.setVenue(venue);
         Event updatedEvent = eventRepository.save(event);
+        responseBytesCache.evictEvent(eventId);
 
         log.info("Venue assigned successfully to event ID: {}", eventId);
         return eventMapper.toResponse(updatedEvent);
@@ -366,6 +373,7 @@ public class EventService {
 
         event.setCategory(category);
         Event updatedEvent = eventRepository.save(event);
+        responseBytesCache.evictEvent(eventId);
 
         log.info("Category assigned successfully to event ID: {}", eventId);
         return eventMapper.toResponse(updatedEvent);
@@ -394,6 +402,7 @@ public class EventService {
 
         event.setVenue(null);
         Event updatedEvent = eventRepository.save(event);
+        responseBytesCache.evictEvent(eventId);
 
         log.info("Venue removed successfully from event ID: {}", eventId);
         return eventMapper.toResponse(updatedEvent);
@@ -422,6 +431,7 @@ public class EventService {
 
         event.setCategory(null);
         Event updatedEvent = eventRepository.save(event);
+        responseBytesCache.evictEvent(eventId);
 
         log.info("Category removed successfully from event ID: {}", eventId);
         return eventMapper.toResponse(updatedEvent);
@@ -454,6 +464,7 @@ public class EventService {
      * @param id the event ID
      * @return true if event exists, false otherwise
      */
+    @Transactional(readOnly = true)
     public boolean eventExists(Long id) {
         return eventRepository.existsById(id);
     }
@@ -465,6 +476,7 @@ public class EventService {
      * @return List of EventResponse for events in that city
      * @throws EventException if city is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> filterEventsByCity(String city) {
         log.debug("Filtering events by city: {}", city);
 
@@ -485,6 +497,7 @@ public class EventService {
      * @return List of EventResponse for events within the date range
      * @throws EventException if dates are invalid
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> filterEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.debug("Filtering events by date range: {} to {}", startDate, endDate);
 
@@ -509,6 +522,7 @@ public class EventService {
      * @return List of EventResponse for events in that month
      * @throws EventException if year/month are invalid
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> filterEventsByMonth(Integer year, Integer month) {
         log.debug("Filtering events by year: {} and month: {}", year, month);
 
@@ -684,6 +698,7 @@ public class EventService {
      * @return List of EventResponse matching the keyword
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByNameOrDescription(String keyword) {
         log.info("Searching events by name or description with keyword: {}", keyword);
 
@@ -710,6 +725,7 @@ public class EventService {
      * @return List of EventResponse matching the name
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByName(String keyword) {
         log.info("Searching events by name with keyword: {}", keyword);
 
@@ -736,6 +752,7 @@ public class EventService {
      * @return List of EventResponse matching the description
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByDescription(String keyword) {
         log.info("Searching events by description with keyword: {}", keyword);
 
@@ -762,6 +779,7 @@ public class EventService {
      * @return List of EventResponse at venues matching the name
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByVenueName(String keyword) {
         log.info("Searching events by venue name with keyword: {}", keyword);
 
@@ -788,6 +806,7 @@ public class EventService {
      * @return List of EventResponse in categories matching the name
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByCategory(String keyword) {
         log.info("Searching events by category name with keyword: {}", keyword);
 
@@ -814,6 +833,7 @@ public class EventService {
      * @return List of EventResponse by organizers matching the username
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEventsByOrganizerUsername(String keyword) {
         log.info("Searching events by organizer username with keyword: {}", keyword);
 
@@ -841,6 +861,7 @@ public class EventService {
      * @return List of EventResponse matching the keyword in any field
      * @throws EventException if keyword is empty
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> globalSearchEvents(String keyword) {
         log.info("Performing global search with keyword: {}", keyword);
 
@@ -867,6 +888,7 @@ public class EventService {
      * @return List of EventResponse based on search type
      * @throws EventException if searchType is invalid
      */
+    @Transactional(readOnly = true)
     public List<EventResponse> advancedSearch(EventSearchRequest searchRequest) {
         log.info("Performing advanced search - Type: {}, Keyword: {}",
                 searchRequest.getSearchType(), searchRequest.getKeyword());
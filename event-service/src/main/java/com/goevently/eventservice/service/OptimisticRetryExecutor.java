@@ -0,0 +1,87 @@
+package com.goevently.eventservice.service;
+
+import com.goevently.eventservice.exception.EventException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and retries it when an optimistic
+ * lock conflict is detected. Each retry re-reads fresh state in a new transaction,
+ * waiting a random ("full jitter") backoff so contending writers spread out.
+ */
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final Counter conflictCounter;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    @Value("${optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${optimistic-retry.base-backoff-ms:5}")
+    private long baseBackoffMs;
+
+    @Value("${optimistic-retry.max-backoff-ms:100}")
+    private long maxBackoffMs;
+
+    @Autowired
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.conflictCounter = meterRegistry.counter("optimistic.lock.conflicts");
+        this.retryCounter = meterRegistry.counter("optimistic.lock.retries");
+        this.exhaustedCounter = meterRegistry.counter("optimistic.lock.exhausted");
+    }
+
+    /**
+     * Executes the work, retrying on optimistic lock conflicts.
+     * Must be called outside an existing transaction so each attempt commits on its own.
+     *
+     * @param operation short description used in logs
+     * @param work the transactional work to run
+     * @return the work's result
+     * @throws EventException if every attempt conflicted
+     */
+    public <T> T execute(String operation, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflictCounter.increment();
+
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.warn("Optimistic lock conflict on {} after {} attempts, giving up", operation, attempt);
+                    throw new EventException("Concurrent update conflict on " + operation + ", please retry", e);
+                }
+
+                retryCounter.increment();
+                log.debug("Optimistic lock conflict on {} (attempt {}), retrying", operation, attempt);
+                sleepWithJitter(attempt);
+            }
+        }
+    }
+
+    private void sleepWithJitter(int attempt) {
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt, 20));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventException("Interrupted while retrying update", e);
+        }
+    }
+}
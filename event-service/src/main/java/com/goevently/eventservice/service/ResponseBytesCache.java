@@ -0,0 +1,373 @@
+package com.goevently.eventservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goevently.eventservice.config.MessagePackConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully serialized response bodies for hot read endpoints.
+ * Stores the final bytes (plus an optional gzip variant) per key and media type
+ * (JSON or MessagePack) so repeat hits skip entity mapping and serialization entirely.
+ *
+ * Entries are evicted by the same service write paths that evict the Spring caches. The cache is
+ * per instance, so every eviction is also published on a Redis channel after commit and applied
+ * by the other event-service instances; entries expire after ttl-ms in case a message is missed.
+ * Beyond max-entries the least recently used entry is dropped.
+ */
+@Component
+@Slf4j
+public class ResponseBytesCache {
+
+    public static final String EVENT_PREFIX = "event:";
+    public static final String EVENT_DETAIL_PREFIX = EVENT_PREFIX + "detail:";
+    public static final String CATEGORIES_ALL = "categories:all";
+
+    private static final String MSGPACK_SUFFIX = "#msgpack";
+
+    // Eviction messages: <instanceId>|<K key | E eventId | P prefix>
+    private static final char EVICT_KEY = 'K';
+    private static final char EVICT_EVENT = 'E';
+    private static final char EVICT_PREFIX = 'P';
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper msgpackMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // Access-ordered: the eldest entry is the least recently used one; guarded by itself
+    private final Map<String, Stored> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Stored> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // Bumped on every eviction so a response computed before a write is never stored after it
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${response-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    @Value("${response-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${response-cache.invalidation-channel:event-service:response-cache:evict}")
+    private String invalidationChannel;
+
+    @Autowired
+    public ResponseBytesCache(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder,
+                              StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.objectMapper = objectMapper;
+        // Same settings as the MessagePack message converter (see MessagePackConfig)
+        this.msgpackMapper = objectMapperBuilder.factory(new MessagePackFactory()).build();
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onEvictionMessage(message),
+                new ChannelTopic(invalidationChannel));
+    }
+
+    /**
+     * Picks the wire format for a request: MessagePack only when the Accept header prefers it
+     * over JSON, mirroring the converter order in MessagePackConfig.
+     *
+     * @param accept the request's Accept header, may be null
+     * @return APPLICATION_JSON or MessagePackConfig.APPLICATION_MSGPACK
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || !accept.contains(MessagePackConfig.APPLICATION_MSGPACK.getSubtype())) {
+            return MediaType.APPLICATION_JSON;
+        }
+        double jsonQuality = 0;
+        double msgpackQuality = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.includes(MediaType.APPLICATION_JSON)) {
+                    jsonQuality = Math.max(jsonQuality, type.getQualityValue());
+                }
+                if (type.equalsTypeAndSubtype(MessagePackConfig.APPLICATION_MSGPACK)) {
+                    msgpackQuality = Math.max(msgpackQuality, type.getQualityValue());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return msgpackQuality > jsonQuality ? MessagePackConfig.APPLICATION_MSGPACK : MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Returns the cached entry for the key, serializing and storing the body on a miss.
+     *
+     * @param key the cache key (e.g. "event:42")
+     * @param mediaType the wire format, from negotiate
+     * @param bodySupplier produces the response body to serialize on a miss
+     * @return the cached entry
+     */
+    public Entry getOrCompute(String key, MediaType mediaType, Supplier<Object> bodySupplier) {
+        Entry cached = get(key, mediaType);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        return put(key, mediaType, startGeneration, bodySupplier.get(), null);
+    }
+
+    /**
+     * Returns the cached entry for the key and media type, or null on a miss.
+     */
+    public Entry get(String key, MediaType mediaType) {
+        String storageKey = storageKey(key, mediaType);
+        synchronized (entries) {
+            Stored stored = entries.get(storageKey);
+            if (stored == null) {
+                return null;
+            }
+            if (stored.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(storageKey, stored);
+                return null;
+            }
+            return stored.entry();
+        }
+    }
+
+    /**
+     * Current eviction generation; read it before loading a body that will be passed to put.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Serializes the body and stores it unless an eviction happened since startGeneration.
+     *
+     * @param key the cache key
+     * @param mediaType the wire format, from negotiate
+     * @param startGeneration generation() read before the body was loaded
+     * @param body the response body
+     * @param etag version tag sent as ETag, may be null
+     * @return the serialized entry, stored or not
+     */
+    public Entry put(String key, MediaType mediaType, long startGeneration, Object body, String etag) {
+        return put(key, mediaType, startGeneration, body, etag, ttlMs);
+    }
+
+    /**
+     * Same as put, with an entry lifetime shorter than the default ttl-ms (for bodies embedding
+     * fast-changing data such as seat availability).
+     */
+    public Entry put(String key, MediaType mediaType, long startGeneration, Object body, String etag, long entryTtlMs) {
+        Entry computed = serialize(body, mediaType, etag);
+
+        synchronized (entries) {
+            // Skip the store if a write happened meanwhile
+            if (generation.get() == startGeneration) {
+                entries.putIfAbsent(storageKey(key, mediaType), new Stored(computed, System.currentTimeMillis() + Math.min(entryTtlMs, ttlMs)));
+            }
+        }
+        return computed;
+    }
+
+    /**
+     * Evicts a single key (every media type), now and again after the surrounding transaction
+     * commits, when it is also evicted on the other instances.
+     */
+    public void evict(String key) {
+        runNowAndAfterCommit(EVICT_KEY, key);
+    }
+
+    /**
+     * Evicts an event and its aggregated detail page.
+     */
+    public void evictEvent(Long eventId) {
+        runNowAndAfterCommit(EVICT_EVENT, String.valueOf(eventId));
+    }
+
+    /**
+     * Evicts every key starting with the given prefix.
+     */
+    public void evictByPrefix(String prefix) {
+        runNowAndAfterCommit(EVICT_PREFIX, prefix);
+    }
+
+    /**
+     * Builds a 200 response carrying the cached bytes, using the gzip variant
+     * when the client accepts it.
+     *
+     * @param entry the cached entry
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     * @return ResponseEntity with the raw serialized body
+     */
+    public ResponseEntity<byte[]> toResponseEntity(Entry entry, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(entry.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.etag() != null) {
+            builder.eTag(entry.etag());
+        }
+
+        if (entry.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.body());
+    }
+
+    /**
+     * Same as toResponseEntity, but answers 304 Not Modified when the client already
+     * holds the entry's version.
+     *
+     * @param ifNoneMatch the request's If-None-Match header, may be null
+     */
+    public ResponseEntity<byte[]> toConditionalResponseEntity(Entry entry, String acceptEncoding, String ifNoneMatch) {
+        if (entry.etag() != null && ifNoneMatch != null
+                && (ifNoneMatch.contains("\"" + entry.etag() + "\"") || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entry.etag())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        return toResponseEntity(entry, acceptEncoding);
+    }
+
+    public static String eventKey(Long eventId) {
+        return EVENT_PREFIX + eventId;
+    }
+
+    public static String eventDetailKey(Long eventId) {
+        return EVENT_DETAIL_PREFIX + eventId;
+    }
+
+    private static String storageKey(String key, MediaType mediaType) {
+        return MessagePackConfig.APPLICATION_MSGPACK.equalsTypeAndSubtype(mediaType) ? key + MSGPACK_SUFFIX : key;
+    }
+
+    private void remove(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+            entries.remove(key + MSGPACK_SUFFIX);
+        }
+    }
+
+    private void runNowAndAfterCommit(char type, String target) {
+        applyEviction(type, target);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyEviction(type, target);
+                    // Only after commit: other instances must not reload the pre-write state
+                    publishEviction(type, target);
+                }
+            });
+        } else {
+            publishEviction(type, target);
+        }
+    }
+
+    private void applyEviction(char type, String target) {
+        generation.incrementAndGet();
+        switch (type) {
+            case EVICT_KEY -> remove(target);
+            case EVICT_EVENT -> {
+                Long eventId = Long.valueOf(target);
+                remove(eventKey(eventId));
+                remove(eventDetailKey(eventId));
+            }
+            case EVICT_PREFIX -> {
+                synchronized (entries) {
+                    entries.keySet().removeIf(key -> key.startsWith(target));
+                }
+            }
+            default -> log.warn("Unknown response cache eviction type: {}", type);
+        }
+    }
+
+    private void publishEviction(char type, String target) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, instanceId + "|" + type + target);
+        } catch (Exception e) {
+            // Other instances then catch up through the entry TTL
+            log.warn("Failed to publish response cache eviction {}{}: {}", type, target, e.getMessage());
+        }
+    }
+
+    private void onEvictionMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || separator + 1 >= body.length() || body.startsWith(instanceId + "|")) {
+            return;
+        }
+        try {
+            applyEviction(body.charAt(separator + 1), body.substring(separator + 2));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed response cache eviction message: {}", body);
+        }
+    }
+
+    private Entry serialize(Object body, MediaType mediaType, String etag) {
+        boolean msgpack = MessagePackConfig.APPLICATION_MSGPACK.equalsTypeAndSubtype(mediaType);
+        try {
+            byte[] bytes = (msgpack ? msgpackMapper : objectMapper).writeValueAsBytes(body);
+            byte[] gzip = bytes.length >= gzipMinBytes ? gzip(bytes) : null;
+            return new Entry(msgpack ? MessagePackConfig.APPLICATION_MSGPACK : MediaType.APPLICATION_JSON, bytes, gzip, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            log.warn("Failed to pre-compress cached response: {}", e.getMessage());
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serialized response body in the given media type, with a gzip variant when the body
+     * is large enough and an optional version tag.
+     */
+    public record Entry(MediaType mediaType, byte[] body, byte[] gzip, String etag) {
+    }
+
+    private record Stored(Entry entry, long expiresAt) {
+    }
+}
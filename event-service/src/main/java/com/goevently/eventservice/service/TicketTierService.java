@@ -3,19 +3,25 @@ package com.goevently.eventservice.service;
 import com.goevently.eventservice.dto.CreateTicketTierRequest;
 import com.goevently.eventservice.dto.PaginatedResponse;
 import com.goevently.eventservice.dto.TicketTierResponse;
+import com.goevently.eventservice.dto.TierReservationRequest;
 import com.goevently.eventservice.dto.UpdateTicketTierRequest;
 import com.goevently.eventservice.entity.Event;
 import com.goevently.eventservice.entity.TicketTier;
+import com.goevently.eventservice.entity.TierReservation;
 import com.goevently.eventservice.exception.EventException;
 import com.goevently.eventservice.repository.EventRepository;
 import com.goevently.eventservice.repository.TicketTierRepository;
+import com.goevently.eventservice.repository.TierReservationRepository;
 import com.goevently.eventservice.util.TicketTierMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -33,6 +39,15 @@ public class TicketTierService {
     @Autowired
     private KafkaProducerService kafkaProducerService;
 
+    @Autowired
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Autowired
+    private ResponseBytesCache responseBytesCache;
+
+    @Autowired
+    private TierReservationRepository tierReservationRepository;
+
     @Autowired
     public TicketTierService(TicketTierRepository ticketTierRepository, EventRepository eventRepository, TicketTierMapper ticketTierMapper) {
         this.ticketTierRepository = ticketTierRepository;
@@ -47,7 +62,7 @@ public class TicketTierService {
 
         TicketTier tier = ticketTierMapper.toEntity(request, event);
         TicketTier savedTier = ticketTierRepository.save(tier);
-
+        responseBytesCache.evict(ResponseBytesCache.eventDetailKey(event.getId()));
 
         TicketTierResponse response = ticketTierMapper.toResponse(savedTier);
 
@@ -59,6 +74,7 @@ public class TicketTierService {
         return response;
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTierResponse> getTiersByEvent(Long eventId) {
         return ticketTierRepository.findByEventId(eventId)
                 .stream()
@@ -66,29 +82,215 @@ public class TicketTierService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public TicketTierResponse getTierById(Long id) {
         TicketTier tier = ticketTierRepository.findById(id)
                 .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
         return ticketTierMapper.toResponse(tier);
     }
 
-    @Transactional
+    /**
+     * Updates a tier under optimistic locking. A concurrent edit or seat sale makes the
+     * version check fail; the update is then re-applied to freshly read state.
+     */
     public TicketTierResponse updateTier(Long id, UpdateTicketTierRequest request) {
-        TicketTier tier = ticketTierRepository.findById(id)
-                .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
+        return optimisticRetryExecutor.execute("ticket tier " + id, () -> {
+            TicketTier tier = ticketTierRepository.findById(id)
+                    .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
+
+            if (request.getName() != null) tier.setName(request.getName());
+            if (request.getPrice() != null) tier.setPrice(request.getPrice());
+            if (request.getTotalQuantity() != null) {
+                int diff = request.getTotalQuantity() - tier.getTotalQuantity();
+                tier.setTotalQuantity(request.getTotalQuantity());
+                tier.setRemainingQuantity(Math.max(0, tier.getRemainingQuantity() + diff));
+            }
+            if (request.getDescription() != null) tier.setDescription(request.getDescription());
 
-        if (request.getName() != null) tier.setName(request.getName());
-        if (request.getPrice() != null) tier.setPrice(request.getPrice());
-        if (request.getTotalQuantity() != null) {
-            int diff = request.getTotalQuantity() - tier.getTotalQuantity();
-            tier.setTotalQuantity(request.getTotalQuantity());
-            tier.setRemainingQuantity(Math.max(0, tier.getRemainingQuantity() + diff));
+            TicketTier updated = ticketTierRepository.saveAndFlush(tier);
+            responseBytesCache.evict(ResponseBytesCache.eventDetailKey(updated.getEvent().getId()));
+            log.info("Updated ticket tier '{}'", updated.getName());
+            return ticketTierMapper.toResponse(updated);
+        });
+    }
+
+    /**
+     * Takes seats from a tier's remaining quantity (seat sale).
+     * Uses the same optimistic version check as organizer edits, so no row lock is held.
+     *
+     * @param id the tier ID
+     * @param quantity number of seats to take
+     * @return TicketTierResponse with the updated remaining quantity
+     * @throws EventException if the tier is not found or has too few seats left
+     */
+    public TicketTierResponse reserveSeats(Long id, int quantity) {
+        if (quantity < 1) {
+            throw new EventException("Quantity must be at least 1");
         }
-        if (request.getDescription() != null) tier.setDescription(request.getDescription());
 
-        TicketTier updated = ticketTierRepository.save(tier);
-        log.info("Updated ticket tier '{}'", updated.getName());
-        return ticketTierMapper.toResponse(updated);
+        return optimisticRetryExecutor.execute("ticket tier " + id, () -> {
+            TicketTier tier = ticketTierRepository.findById(id)
+                    .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
+
+            if (tier.getRemainingQuantity() < quantity) {
+                throw new EventException("Only " + tier.getRemainingQuantity() + " seats remaining in tier: " + tier.getName());
+            }
+
+            tier.setRemainingQuantity(tier.getRemainingQuantity() - quantity);
+            TicketTier updated = ticketTierRepository.saveAndFlush(tier);
+            responseBytesCache.evict(ResponseBytesCache.eventDetailKey(updated.getEvent().getId()));
+            log.info("Reserved {} seats in ticket tier '{}', {} remaining", quantity, updated.getName(), updated.getRemainingQuantity());
+            return ticketTierMapper.toResponse(updated);
+        });
+    }
+
+    /**
+     * Returns seats to a tier (cancelled or failed booking), capped at the total quantity.
+     *
+     * @param id the tier ID
+     * @param quantity number of seats to return
+     * @return TicketTierResponse with the updated remaining quantity
+     * @throws EventException if the tier is not found
+     */
+    public TicketTierResponse releaseSeats(Long id, int quantity) {
+        if (quantity < 1) {
+            throw new EventException("Quantity must be at least 1");
+        }
+
+        return optimisticRetryExecutor.execute("ticket tier " + id, () -> {
+            TicketTier tier = ticketTierRepository.findById(id)
+                    .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
+
+            tier.setRemainingQuantity(Math.min(tier.getTotalQuantity(), tier.getRemainingQuantity() + quantity));
+            TicketTier updated = ticketTierRepository.saveAndFlush(tier);
+            responseBytesCache.evict(ResponseBytesCache.eventDetailKey(updated.getEvent().getId()));
+            log.info("Released {} seats in ticket tier '{}', {} remaining", quantity, updated.getName(), updated.getRemainingQuantity());
+            return ticketTierMapper.toResponse(updated);
+        });
+    }
+
+    /**
+     * Takes seats from several tiers of one event in a single transaction (multi-tier checkout).
+     * Either every tier has enough seats and all are decremented, or nothing changes.
+     * Repeating a reservation ID returns the tiers without taking seats again.
+     *
+     * @param request the reservation ID, the event and the seats wanted per tier
+     * @return the updated tiers, ordered by tier ID
+     * @throws EventException if a tier is missing, belongs to another event or has too few seats left,
+     *                        or the reservation was already released
+     */
+    public List<TicketTierResponse> reserveSeats(TierReservationRequest request) {
+        Map<Long, Integer> quantities = mergeByTier(request);
+
+        return optimisticRetryExecutor.execute("ticket tiers " + quantities.keySet(), () -> {
+            List<TicketTier> tiers = loadTiers(request.getEventId(), quantities);
+
+            TierReservation existing = tierReservationRepository.findById(request.getReservationId()).orElse(null);
+            if (existing != null) {
+                if (existing.isReleased()) {
+                    throw new EventException("Reservation " + request.getReservationId() + " was already released");
+                }
+                log.info("Reservation {} already applied, returning current tiers", request.getReservationId());
+                return tiers.stream().map(ticketTierMapper::toResponse).collect(Collectors.toList());
+            }
+
+            for (TicketTier tier : tiers) {
+                int quantity = quantities.get(tier.getId());
+                if (tier.getRemainingQuantity() < quantity) {
+                    throw new EventException("Only " + tier.getRemainingQuantity() + " seats remaining in tier: " + tier.getName());
+                }
+                tier.setRemainingQuantity(tier.getRemainingQuantity() - quantity);
+            }
+
+            List<TicketTier> updated = ticketTierRepository.saveAllAndFlush(tiers);
+            tierReservationRepository.saveAndFlush(new TierReservation(request.getReservationId(), request.getEventId(), quantities));
+            responseBytesCache.evict(ResponseBytesCache.eventDetailKey(request.getEventId()));
+            log.info("Reserved seats in tiers {} for event {} (reservation {})", quantities, request.getEventId(), request.getReservationId());
+            return updated.stream().map(ticketTierMapper::toResponse).collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Returns the seats of a reservation to its tiers in a single transaction, capped at each total quantity.
+     * The seats returned are the ones the reservation recorded, not the request's items, which only
+     * matter for reservations recorded before per-tier quantities were kept. Seats are returned at most
+     * once per reservation ID; releasing an unknown ID records it as released so a reserve still in
+     * flight for it is refused.
+     *
+     * @param request the reservation ID, the event and the seats to return per tier
+     * @return the updated tiers, ordered by tier ID
+     * @throws EventException if a tier is missing, or the reservation belongs to another event
+     */
+    public List<TicketTierResponse> releaseSeats(TierReservationRequest request) {
+        Map<Long, Integer> quantities = mergeByTier(request);
+
+        try {
+            return releaseReservation(request, quantities);
+        } catch (DataIntegrityViolationException e) {
+            // The reserve committed between our lookup and insert; its row now exists, so release it
+            log.info("Reservation {} was created concurrently, releasing again", request.getReservationId());
+            return releaseReservation(request, quantities);
+        }
+    }
+
+    private List<TicketTierResponse> releaseReservation(TierReservationRequest request, Map<Long, Integer> quantities) {
+        return optimisticRetryExecutor.execute("ticket tiers " + quantities.keySet(), () -> {
+            TierReservation reservation = tierReservationRepository.findById(request.getReservationId()).orElse(null);
+            if (reservation == null) {
+                List<TicketTier> tiers = loadTiers(request.getEventId(), quantities);
+                tierReservationRepository.saveAndFlush(new TierReservation(request.getReservationId(), request.getEventId(), true));
+                log.info("Reservation {} was never applied, recorded as released", request.getReservationId());
+                return tiers.stream().map(ticketTierMapper::toResponse).collect(Collectors.toList());
+            }
+            if (!reservation.getEventId().equals(request.getEventId())) {
+                throw new EventException("Reservation " + request.getReservationId() + " belongs to event " + reservation.getEventId());
+            }
+
+            Map<Long, Integer> reserved = reservation.getQuantities().isEmpty()
+                    ? quantities
+                    : new TreeMap<>(reservation.getQuantities());
+            List<TicketTier> tiers = loadTiers(reservation.getEventId(), reserved);
+            if (reservation.isReleased()) {
+                log.info("Reservation {} already released", request.getReservationId());
+                return tiers.stream().map(ticketTierMapper::toResponse).collect(Collectors.toList());
+            }
+
+            for (TicketTier tier : tiers) {
+                tier.setRemainingQuantity(Math.min(tier.getTotalQuantity(),
+                        tier.getRemainingQuantity() + reserved.get(tier.getId())));
+            }
+
+            List<TicketTier> updated = ticketTierRepository.saveAllAndFlush(tiers);
+            reservation.setReleased(true);
+            tierReservationRepository.saveAndFlush(reservation);
+            responseBytesCache.evict(ResponseBytesCache.eventDetailKey(reservation.getEventId()));
+            log.info("Released seats in tiers {} for event {} (reservation {})", reserved, reservation.getEventId(), request.getReservationId());
+            return updated.stream().map(ticketTierMapper::toResponse).collect(Collectors.toList());
+        });
+    }
+
+    // Sums duplicate lines; the sorted map also gives a stable update order across concurrent checkouts
+    private Map<Long, Integer> mergeByTier(TierReservationRequest request) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (TierReservationRequest.Item item : request.getItems()) {
+            quantities.merge(item.getTierId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private List<TicketTier> loadTiers(Long eventId, Map<Long, Integer> quantities) {
+        List<TicketTier> tiers = ticketTierRepository.findAllById(quantities.keySet());
+        if (tiers.size() != quantities.size()) {
+            throw new EventException("Ticket tier not found among IDs: " + quantities.keySet());
+        }
+
+        tiers.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        for (TicketTier tier : tiers) {
+            if (!tier.getEvent().getId().equals(eventId)) {
+                throw new EventException("Ticket tier " + tier.getId() + " does not belong to event " + eventId);
+            }
+        }
+        return tiers;
     }
 
     @Transactional
@@ -96,10 +298,12 @@ public class TicketTierService {
         TicketTier tier = ticketTierRepository.findById(id)
                 .orElseThrow(() -> new EventException("Ticket tier not found with ID: " + id));
         ticketTierRepository.delete(tier);
+        responseBytesCache.evict(ResponseBytesCache.eventDetailKey(tier.getEvent().getId()));
         log.info("Deleted ticket tier '{}'", tier.getName());
     }
 
 
+    @Transactional(readOnly = true)
     public PaginatedResponse<TicketTierResponse> getTiersByEventPaginated(Long eventId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<TicketTier> tierPage = ticketTierRepository.findByEventId(eventId, pageable);
@@ -28,11 +28,14 @@ public class VenueService {
 
     private final VenueRepository venueRepository;
     private final VenueMapper venueMapper;
+    private final ResponseBytesCache responseBytesCache;
 
     @Autowired
-    public VenueService(VenueRepository venueRepository, VenueMapper venueMapper) {
+    public VenueService(VenueRepository venueRepository, VenueMapper venueMapper,
+                        ResponseBytesCache responseBytesCache) {
         this.venueRepository = venueRepository;
         this.venueMapper = venueMapper;
+        this.responseBytesCache = responseBytesCache;
     }
 
     /**
@@ -77,6 +80,7 @@ public class VenueService {
      * @return VenueResponse containing venue details
      * @throws EventException if venue not found
      */
+    @Transactional(readOnly = true)
     public VenueResponse getVenueById(Long id) {
         log.debug("Fetching venue with ID: {}", id);
 
@@ -124,6 +128,7 @@ public class VenueService {
      * @param city the city name
      * @return List of VenueResponse containing venues in the specified city
      */
+    @Transactional(readOnly = true)
     public List<VenueResponse> getVenuesByCity(String city) {
         log.debug("Fetching venues in city: {}", city);
 
@@ -142,6 +147,7 @@ public class VenueService {
      * @param city the city name
      * @return List of VenueResponse containing active venues in the specified city
      */
+    @Transactional(readOnly = true)
     public List<VenueResponse> getActiveVenuesByCity(String city) {
         log.debug("Fetching active venues in city: {}", city);
 
@@ -211,6 +217,9 @@ public class VenueService {
 
         // Save updated venue
         Venue updatedVenue = venueRepository.save(venue);
+
+        // Cached events embed the venue name
+        responseBytesCache.evictByPrefix(ResponseBytesCache.EVENT_PREFIX);
         log.info("Venue updated successfully: {}", updatedVenue.getId());
 
         return venueMapper.toResponse(updatedVenue);
@@ -235,6 +244,7 @@ public class VenueService {
                 });
 
         venueRepository.delete(venue);
+        responseBytesCache.evictByPrefix(ResponseBytesCache.EVENT_PREFIX);
         log.info("Venue deleted successfully: {}", id);
     }
 
@@ -323,6 +333,7 @@ public class VenueService {
      * @param id the venue ID
      * @return true if venue exists, false otherwise
      */
+    @Transactional(readOnly = true)
     public boolean venueExists(Long id) {
         return venueRepository.existsById(id);
     }
@@ -0,0 +1,106 @@
+package com.goevently.eventservice.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Compact identity header signed by the API gateway after it has verified the bearer token.
+ *
+ * Format: {@code v1.<userId>.<role>.<expiresAtSeconds>.<base64url(username)>.<base64url(mac)>},
+ * where the MAC is HMAC-SHA256 over everything before the last dot. Downstream services check
+ * it with one small HMAC instead of decoding and verifying the JWT again. The gateway strips
+ * any client-supplied copy (InternalIdentityHeaderFilter) and signs it with its own key
+ * (app.internal-identity.secret, not the JWT secret). A header expires after
+ * app.internal-identity.ttl-ms (5 seconds), give or take a few seconds of clock skew.
+ */
+public class InternalIdentity {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final long CLOCK_SKEW_SECONDS = 5;
+
+    private final Mac prototype;
+    private final long ttlSeconds;
+
+    /**
+     * Verifier only; the header lifetime is chosen by the signer
+     */
+    public InternalIdentity(String secret) {
+        this(secret, 0);
+    }
+
+    public InternalIdentity(String secret, long ttlMs) {
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+        this.ttlSeconds = Math.max(1, ttlMs / 1000);
+    }
+
+    /**
+     * Build a signed header value for an already-verified user
+     */
+    public String sign(Long userId, String username, String role) {
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String payload = VERSION + "." + (userId != null ? userId : "") + "." + (role != null ? role : "")
+                + "." + expiresAt + "." + encode(username != null ? username.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+        return payload + "." + encode(mac(payload));
+    }
+
+    /**
+     * Check a header value
+     *
+     * @return the identity, or null if the value is malformed, forged or expired
+     */
+    public Identity verify(String value) {
+        if (value == null) {
+            return null;
+        }
+        int macStart = value.lastIndexOf('.');
+        String[] parts = value.split("\\.", -1);
+        if (macStart < 0 || parts.length != 6 || !VERSION.equals(parts[0])) {
+            return null;
+        }
+
+        String payload = value.substring(0, macStart);
+        try {
+            if (!MessageDigest.isEqual(mac(payload), Base64.getUrlDecoder().decode(parts[5]))) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(parts[3]);
+            if (System.currentTimeMillis() / 1000 > expiresAt + CLOCK_SKEW_SECONDS) {
+                return null;
+            }
+            Long userId = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+            String role = parts[2].isEmpty() ? null : parts[2];
+            String username = new String(Base64.getUrlDecoder().decode(parts[4]), StandardCharsets.UTF_8);
+            return new Identity(userId, username.isEmpty() ? null : username, role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " cannot be cloned", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record Identity(Long userId, String username, String role) {
+    }
+}
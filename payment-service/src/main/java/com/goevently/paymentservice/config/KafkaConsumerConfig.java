@@ -3,9 +3,12 @@ package com.goevently.paymentservice.config;
 import com.goevently.paymentservice.dto.PaymentMessage;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -28,6 +31,11 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    // Present only in virtual-thread mode (see VirtualThreadConfig)
+    @Autowired(required = false)
+    @Qualifier("kafkaListenerTaskExecutor")
+    private AsyncTaskExecutor listenerTaskExecutor;
+
     @Bean
     public ConsumerFactory<String, PaymentMessage> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -57,6 +65,9 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3);
         factory.getContainerProperties().setPollTimeout(1000);
+        if (listenerTaskExecutor != null) {
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
         factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(0, 0)));
         return factory;
     }
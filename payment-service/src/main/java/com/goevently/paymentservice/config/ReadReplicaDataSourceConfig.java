@@ -0,0 +1,104 @@
+package com.goevently.paymentservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource configuration with read-replica routing.
+ * The primary comes from spring.datasource.*; replicas are listed in app.datasource.replica-urls.
+ * With no replicas configured every connection goes to the primary, as before.
+ *
+ * The routing DataSource is wrapped in a LazyConnectionDataSourceProxy so the physical
+ * connection is chosen at the first statement, after the transaction's read-only flag is known.
+ */
+@Configuration
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replica-urls:}")
+    private String[] replicaUrls;
+
+    @Value("${app.datasource.replica-username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica-password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.max-replica-lag-seconds:5}")
+    private long maxReplicaLagSeconds;
+
+    @Value("${app.datasource.read-your-writes-window-ms:5000}")
+    private long readYourWritesWindowMs;
+
+    @Value("${app.datasource.lag-check-interval-ms:2000}")
+    private long lagCheckIntervalMs;
+
+    @Bean(destroyMethod = "shutdown")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties) {
+        DataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            replicas.add(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(url.trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build());
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replicas, maxReplicaLagSeconds, readYourWritesWindowMs, lagCheckIntervalMs);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Binds a per-caller session key (derived from the bearer token) so reads after a write stay on the primary.
+     * Requests without a token get no stickiness: callers behind one address (NAT, the gateway) would share it.
+     */
+    @Bean
+    public OncePerRequestFilter readYourWritesSessionFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+                if (authHeader != null) {
+                    ReplicaRoutingDataSource.setSessionKey(authHeader);
+                }
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    ReplicaRoutingDataSource.clearSessionKey();
+                }
+            }
+        };
+    }
+}
@@ -13,18 +13,23 @@ public class KafkaProducerService {
     @Autowired
     private KafkaTemplate<String, PaymentMessage> kafkaTemplate;
 
+    // Keyed by booking so every event of one booking lands on the same partition, in order
+    private String messageKey(PaymentMessage payment) {
+        return String.valueOf(payment.getBookingId() != null ? payment.getBookingId() : payment.getId());
+    }
+
     public void sendPaymentSuccess(PaymentMessage payment) {
         log.info("Sending payment-success message to Kafka: {}", payment.getId());
-        kafkaTemplate.send("payment-success", String.valueOf(payment.getId()), payment);
+        kafkaTemplate.send("payment-success", messageKey(payment), payment);
     }
 
     public void sendPaymentFailed(PaymentMessage payment) {
         log.info("Sending payment-failed message to Kafka: {}", payment.getId());
-        kafkaTemplate.send("payment-failed", String.valueOf(payment.getId()), payment);
+        kafkaTemplate.send("payment-failed", messageKey(payment), payment);
     }
 
     public void sendPaymentRefund(PaymentMessage payment) {
         log.info("Sending payment-refund message to Kafka: {}", payment.getId());
-        kafkaTemplate.send("payment-refund", String.valueOf(payment.getId()), payment);
+        kafkaTemplate.send("payment-refund", messageKey(payment), payment);
     }
 }
@@ -91,7 +91,11 @@ public class PaymentService {
 
 
     /**
-     * Verify and process payment after Razorpay webhook
+     * Verify and process payment after Razorpay webhook.
+     *
+     * Only a PENDING payment becomes SUCCESS. A repeated verification is answered without a
+     * second event, and a capture that arrives after the payment was already given up
+     * (FAILED, CANCELLED, EXPIRED) is refunded instead, because its booking no longer exists.
      */
     public PaymentResponse verifyAndProcessPayment(String orderId, String paymentId, String signature) {
         log.info("Verifying payment for order: {}, payment: {}", orderId, paymentId);
@@ -106,6 +110,16 @@ public class PaymentService {
         Payment payment = paymentRepository.findByGatewayTxnId(orderId)
                 .orElseThrow(() -> new RuntimeException("Payment not found for order: " + orderId));
 
+        if (payment.getStatus() == PaymentStatus.SUCCESS || payment.getStatus() == PaymentStatus.REFUNDED) {
+            log.info("Payment {} already {}, ignoring repeated verification", payment.getId(), payment.getStatus());
+            return mapToResponse(payment, orderId);
+        }
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.warn("Payment {} captured after it was {}, refunding", payment.getId(), payment.getStatus());
+            payment.setPaymentTime(LocalDateTime.now());
+            return refund(payment);
+        }
+
         // Mark as success
         payment.setStatus(PaymentStatus.SUCCESS);
         payment.setPaymentTime(LocalDateTime.now());
@@ -140,6 +154,12 @@ public class PaymentService {
         Payment payment = paymentRepository.findByGatewayTxnId(orderId)
                 .orElseThrow(() -> new RuntimeException("Payment not found for order: " + orderId));
 
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            // A captured payment must not flip to FAILED (its booking may already be confirmed)
+            log.info("Payment {} already {}, ignoring failure", payment.getId(), payment.getStatus());
+            return mapToResponse(payment, orderId);
+        }
+
         payment.setStatus(PaymentStatus.FAILED);
         payment.setPaymentTime(LocalDateTime.now());
         payment = paymentRepository.save(payment);
@@ -164,6 +184,7 @@ public class PaymentService {
     /**
      * Get payment by ID
      */
+    @Transactional(readOnly = true)
     public PaymentResponse getPayment(Long paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new RuntimeException("Payment not found with ID: " + paymentId));
@@ -173,6 +194,7 @@ public class PaymentService {
     /**
      * Get payment by booking ID
      */
+    @Transactional(readOnly = true)
     public PaymentResponse getPaymentByBookingId(Long bookingId) {
         Payment payment = paymentRepository.findByBookingId(bookingId)
                 .orElseThrow(() -> new RuntimeException("Payment not found for booking: " + bookingId));
@@ -182,26 +204,35 @@ public class PaymentService {
     /**
      * Get all payments for a user
      */
+    @Transactional(readOnly = true)
     public Page<PaymentResponse> getUserPayments(Long userId, Pageable pageable) {
         return paymentRepository.findByUserId(userId, pageable)
                 .map(payment -> mapToResponse(payment, payment.getGatewayTxnId()));
     }
 
     /**
-     * Refund payment
+     * Refund payment (refunding an already refunded payment is a no-op, so callers may retry)
      */
     public PaymentResponse refundPayment(Long paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new RuntimeException("Payment not found"));
 
+        if (payment.getStatus() == PaymentStatus.REFUNDED) {
+            log.info("Payment {} already refunded", paymentId);
+            return mapToResponse(payment, payment.getGatewayTxnId());
+        }
         if (payment.getStatus() != PaymentStatus.SUCCESS) {
             throw new RuntimeException("Can only refund successful payments");
         }
 
+        return refund(payment);
+    }
+
+    private PaymentResponse refund(Payment payment) {
         payment.setStatus(PaymentStatus.REFUNDED);
         payment = paymentRepository.save(payment);
 
-        log.info("Payment refunded. Payment ID: {}", paymentId);
+        log.info("Payment refunded. Payment ID: {}", payment.getId());
 
         // Emit Kafka event
         PaymentMessage message = PaymentMessage.builder()
@@ -3,9 +3,13 @@ package com.goevently.paymentservice.util;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
 
@@ -16,6 +20,21 @@ public class JwtTokenUtil {
     @Value("${app.jwtSecret}")
     private String jwtSecret;
 
+    @Value("${app.jwt-cache.max-entries:50000}")
+    private int tokenCacheMaxEntries;
+
+    @Value("${app.internal-identity.secret}")
+    private String internalIdentitySecret;
+
+    private VerifiedTokenCache tokenCache;
+    private InternalIdentity internalIdentity;
+
+    @PostConstruct
+    void init() {
+        tokenCache = new VerifiedTokenCache(Keys.hmacShaKeyFor(jwtSecret.getBytes()), tokenCacheMaxEntries);
+        internalIdentity = new InternalIdentity(internalIdentitySecret);
+    }
+
     /**
      * Extract JWT token from Authorization header
      */
@@ -30,14 +49,15 @@ public class JwtTokenUtil {
      * Validate and parse JWT token
      */
     public Claims validateAndParseToken(String token) {
+        Claims trusted = claimsFromGateway();
+        if (trusted != null) {
+            return trusted;
+        }
+
         try {
             log.debug("Validating JWT token...");
 
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = tokenCache.verify(token);
 
             log.debug("JWT token is valid. Subject: {}", claims.getSubject());
             return claims;
@@ -47,6 +67,28 @@ public class JwtTokenUtil {
         }
     }
 
+    /**
+     * Identity already verified by the API gateway (signed X-Internal-Identity header), or null
+     * for direct calls and invalid or expired headers, which then get full JWT verification
+     */
+    private Claims claimsFromGateway() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        InternalIdentity.Identity identity =
+                internalIdentity.verify(servletAttributes.getRequest().getHeader(InternalIdentity.HEADER));
+        if (identity == null) {
+            return null;
+        }
+
+        log.debug("Using gateway-verified identity for user: {}", identity.userId());
+        Claims claims = Jwts.claims().setSubject(identity.username());
+        claims.put("userId", identity.userId());
+        claims.put("role", identity.role());
+        return claims;
+    }
+
     /**
      * Extract userId from JWT claims
      */
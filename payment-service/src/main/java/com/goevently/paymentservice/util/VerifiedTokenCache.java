@@ -0,0 +1,93 @@
+package com.goevently.paymentservice.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT verification with one pre-built parser and a bounded cache of verified claims.
+ *
+ * Entries are keyed by the SHA-256 of the token and kept until the token's exp, so repeat
+ * requests from the same session skip the base64/JSON decode and signature check. Tokens
+ * without an exp are verified every time. Failures are never cached.
+ */
+public class VerifiedTokenCache {
+
+    private final JwtParser parser;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(Key signingKey, int maxEntries) {
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Return the token's claims, verifying the signature only on a cache miss
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public Claims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT string is empty");
+        }
+
+        String hash = hash(token);
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(hash);
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                return cached.claims;
+            }
+            // Expired: drop it and let the parser raise ExpiredJwtException
+            entries.remove(hash, cached);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            evictIfFull(now);
+            entries.put(hash, new Entry(claims, expiration.getTime()));
+        }
+        return claims;
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        if (entries.size() >= maxEntries) {
+            // Still full of live tokens: drop the tenth closest to expiry, so the rest of the
+            // active sessions keep their entries (no recency tracking on the hit path)
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                    .limit(Math.max(1, maxEntries / 10))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}